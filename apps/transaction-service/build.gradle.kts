@@ -23,20 +23,34 @@ dependencies {
     implementation("jakarta.servlet:jakarta.servlet-api:6.0.0")
     implementation("io.quarkus:quarkus-container-image-jib")
     implementation("io.quarkus:quarkus-jdbc-postgresql")
+    implementation("io.quarkus:quarkus-reactive-pg-client")
     implementation("io.quarkus:quarkus-arc")
     implementation("io.quarkus:quarkus-hibernate-orm")
+    implementation("io.quarkus:quarkus-flyway")
+    implementation("io.quarkus:quarkus-scheduler")
+    implementation("io.quarkus:quarkus-micrometer-registry-prometheus")
+    implementation("io.quarkus:quarkus-opentelemetry")
+    implementation("io.opentelemetry.instrumentation:opentelemetry-jdbc")
+    implementation("org.flywaydb:flyway-database-postgresql")
     implementation("com.google.cloud.sql:postgres-socket-factory:1.19.1")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.bitbucket.b_c:jose4j:0.9.6")
 
     testImplementation("io.quarkus:quarkus-junit5")
     testImplementation("io.rest-assured:rest-assured")
+    // Same embedded PostgreSQL as the load test, so tests run against the real migrations without Docker
+    testImplementation("io.zonky.test:embedded-postgres:2.0.7")
+    testImplementation(enforcedPlatform("io.zonky.test.postgres:embedded-postgres-binaries-bom:16.2.0"))
 }
 
 group = "com.justice"
 version = "1.0.0-SNAPSHOT"
 
+// JDK 21 for virtual threads (@RunOnVirtualThread)
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
-    targetCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
 }
 
 tasks.withType<Test> {
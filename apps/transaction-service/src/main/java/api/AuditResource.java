@@ -1,7 +1,10 @@
 package api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dto.AuditLogPage;
 import dto.AuditLogResponseDTO;
 import dto.BankResponseDTO;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
@@ -11,8 +14,8 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
-import models.AuditLog;
 import models.Bank;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
@@ -23,14 +26,13 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import service.AuditWriteBehindPipeline;
 import service.IAuditService;
 import util.RequiresRole;
 
-import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Project: pay-stream
@@ -47,6 +49,7 @@ import java.util.stream.Collectors;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @ApplicationScoped
+@RunOnVirtualThread
 @Tag(name = "AuditLog", description = "Audit trail of all operations")
 @RequiresRole("ADMIN")
 public class AuditResource {
@@ -55,13 +58,18 @@ public class AuditResource {
     UriInfo uriInfo;
     @Inject
     IAuditService auditService;
+    @Inject
+    AuditWriteBehindPipeline writeBehindPipeline;
+    @Inject
+    ObjectMapper objectMapper;
     @GET
     @Operation(summary = "Get all audit logs",
             description = "Returns a list of all audit logs")
     @APIResponse(
             responseCode = "200",
             description = "List of audit logs",
-            content = @Content(mediaType = "application/json")
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AuditLogPage.class))
     )
     @APIResponse(
             responseCode = "400",
@@ -110,42 +118,91 @@ public class AuditResource {
             )
     })
     public Response getAllAuditLogs() {
-        List<AuditLog> auditLogs = auditService.getAllAuditLogs();
-
-        // Create a wrapper object to hold the list and add links to each bank
-        List<Map<String, Object>> enrichedAuditLogs = auditLogs.stream()
-                .map(auditLog -> {
-                    AuditLogResponseDTO dto = new AuditLogResponseDTO(auditLog);
-
-                    // Create links for this specific bank
-                    URI selfUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(auditLog.id))
-                            .build();
-
-                    // Create a map with the bank data and its links
-                    Map<String, Object> auditLogsWithLinks = new HashMap<>();
-                    auditLogsWithLinks.put("auditLog", dto);
-
-                    Map<String, String> links = new HashMap<>();
-                    links.put("self", selfUri.toString());
-
-                    auditLogsWithLinks.put("_links", links);
-
-                    return auditLogsWithLinks;
-                })
-                .collect(Collectors.toList());
-
-        // Create a wrapper object for the whole collection
-        Map<String, Object> response = new HashMap<>();
-        response.put("auditLogs", enrichedAuditLogs);
-        response.put("count", enrichedAuditLogs.size());
-
         // Collection-level links
         Map<String, String> collectionLinks = new HashMap<>();
         collectionLinks.put("self", uriInfo.getAbsolutePath().toString());
 
-        response.put("_links", collectionLinks);
+        // Rows are written as they are read; see JsonCollectionWriter
+        StreamingOutput body = JsonCollectionWriter.stream(
+                objectMapper,
+                Map.of(),
+                "auditLogs",
+                auditService::forEachAuditLog,
+                AuditLogResponseDTO::new,
+                Map.of("_links", collectionLinks));
+
+        return Response.ok(body).build();
+    }
+
+    @GET
+    @Path("/pipeline/stats")
+    @Operation(summary = "Get audit pipeline statistics",
+            description = "Returns write-behind queue depth and flush latency")
+    @APIResponse(
+            responseCode = "200",
+            description = "Audit pipeline statistics",
+            content = @Content(mediaType = "application/json")
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Response getPipelineStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("mode", writeBehindPipeline.getMode());
+        response.put("queueDepth", writeBehindPipeline.getQueueDepth());
+        response.put("queueCapacity", writeBehindPipeline.getQueueCapacity());
+        response.put("overflowCount", writeBehindPipeline.getOverflowCount());
+        response.put("flushCount", writeBehindPipeline.getFlushCount());
+        response.put("flushedCount", writeBehindPipeline.getFlushedCount());
+        response.put("meanFlushLatencyMs", writeBehindPipeline.getMeanFlushLatencyMillis());
+        response.put("maxFlushLatencyMs", writeBehindPipeline.getMaxFlushLatencyMillis());
+
+        Map<String, String> links = new HashMap<>();
+        links.put("self", uriInfo.getAbsolutePath().toString());
+        response.put("_links", links);
 
         return Response.ok(response).build();
     }
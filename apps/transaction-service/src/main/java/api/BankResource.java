@@ -1,7 +1,11 @@
 package api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dto.BankCollection;
 import dto.BankRequestDTO;
 import dto.BankResponseDTO;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -17,6 +21,10 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import service.BankCache;
 import service.IBankService;
 import util.RequiresRole;
 import util.SecurityContext;
@@ -25,7 +33,6 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Project: pay-stream
@@ -40,6 +47,7 @@ import java.util.stream.Collectors;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @ApplicationScoped
+@RunOnVirtualThread
 @Tag(name = "Bank", description = "Bank management operations")
 public class BankResource {
 
@@ -49,6 +57,15 @@ public class BankResource {
     @Inject
     SecurityContext securityContext;
 
+    @Inject
+    BankCache bankCache;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    ObjectMapper objectMapper;
+
     @Context
     UriInfo uriInfo;
 
@@ -397,7 +414,8 @@ public class BankResource {
     @APIResponse(
             responseCode = "200",
             description = "List of banks",
-            content = @Content(mediaType = "application/json")
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BankCollection.class))
     )
     @APIResponse(
             responseCode = "400",
@@ -446,76 +464,7 @@ public class BankResource {
             )
     })
     public Response getAllBanks() {
-        List<Bank> banks = bankService.getAllBanks();
-
-        // Create a wrapper object to hold the list and add links to each bank
-        List<Map<String, Object>> enrichedBanks = banks.stream()
-                .map(bank -> {
-                    BankResponseDTO dto = new BankResponseDTO(bank);
-
-                    // Create links for this specific bank
-                    URI selfUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .build();
-
-                    URI updateUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .build();
-
-                    URI deleteUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .build();
-
-                    URI toggleStatusUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .path("toggle-status")
-                            .build();
-
-                    // Create a map with the bank data and its links
-                    Map<String, Object> bankWithLinks = new HashMap<>();
-                    bankWithLinks.put("bank", dto);
-
-                    Map<String, String> links = new HashMap<>();
-                    links.put("self", selfUri.toString());
-                    links.put("update", updateUri.toString());
-                    links.put("delete", deleteUri.toString());
-                    links.put("toggle-status", toggleStatusUri.toString());
-
-                    bankWithLinks.put("_links", links);
-
-                    return bankWithLinks;
-                })
-                .collect(Collectors.toList());
-
-        // Create a wrapper object for the whole collection
-        Map<String, Object> response = new HashMap<>();
-        response.put("banks", enrichedBanks);
-        response.put("count", enrichedBanks.size());
-
-        // Collection-level links
-        Map<String, String> collectionLinks = new HashMap<>();
-        collectionLinks.put("self", uriInfo.getAbsolutePath().toString());
-
-        // Add link to create a new bank
-        URI createUri = uriInfo.getBaseUriBuilder()
-                .path(BankResource.class)
-                .build();
-        collectionLinks.put("create", createUri.toString());
-
-        // Add link to active banks
-        URI activeBanksUri = uriInfo.getBaseUriBuilder()
-                .path(BankResource.class)
-                .path("active")
-                .build();
-        collectionLinks.put("active-banks", activeBanksUri.toString());
-
-        response.put("_links", collectionLinks);
-
-        return Response.ok(response).build();
+        return streamBanks(false);
     }
 
     @GET
@@ -525,7 +474,8 @@ public class BankResource {
     @APIResponse(
             responseCode = "200",
             description = "List of active banks",
-            content = @Content(mediaType = "application/json")
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BankCollection.class))
     )
     @APIResponse(
             responseCode = "400",
@@ -574,75 +524,121 @@ public class BankResource {
             )
     })
     public Response getAllActiveBanks() {
-        List<Bank> banks = bankService.getActiveBanks();
-
-        // Create a wrapper object to hold the list and add links to each bank
-        List<Map<String, Object>> enrichedBanks = banks.stream()
-                .map(bank -> {
-                    BankResponseDTO dto = new BankResponseDTO(bank);
-
-                    // Create links for this specific bank
-                    URI selfUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .build();
-
-                    URI updateUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .build();
-
-                    URI deleteUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .build();
-
-                    URI toggleStatusUri = uriInfo.getBaseUriBuilder()
-                            .path(BankResource.class)
-                            .path(String.valueOf(bank.id))
-                            .path("toggle-status")
-                            .build();
-
-                    // Create a map with the bank data and its links
-                    Map<String, Object> bankWithLinks = new HashMap<>();
-                    bankWithLinks.put("bank", dto);
-
-                    Map<String, String> links = new HashMap<>();
-                    links.put("self", selfUri.toString());
-                    links.put("update", updateUri.toString());
-                    links.put("delete", deleteUri.toString());
-                    links.put("toggle-status", toggleStatusUri.toString());
-
-                    bankWithLinks.put("_links", links);
-
-                    return bankWithLinks;
-                })
-                .collect(Collectors.toList());
-
-        // Create a wrapper object for the whole collection
-        Map<String, Object> response = new HashMap<>();
-        response.put("banks", enrichedBanks);
-        response.put("count", enrichedBanks.size());
+        return streamBanks(true);
+    }
+
+    private Response streamBanks(boolean activeOnly) {
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
 
         // Collection-level links
         Map<String, String> collectionLinks = new HashMap<>();
         collectionLinks.put("self", uriInfo.getAbsolutePath().toString());
 
         // Add link to create a new bank
-        URI createUri = uriInfo.getBaseUriBuilder()
-                .path(BankResource.class)
-                .build();
-        collectionLinks.put("create", createUri.toString());
+        collectionLinks.put("create", halLinks.banks());
 
         // Add link to active banks
-        URI activeBanksUri = uriInfo.getBaseUriBuilder()
-                .path(BankResource.class)
-                .path("active")
-                .build();
-        collectionLinks.put("active-banks", activeBanksUri.toString());
+        collectionLinks.put("active-banks", halLinks.banks() + "/active");
+
+        // Rows are written as they are read; see JsonCollectionWriter
+        StreamingOutput body = JsonCollectionWriter.stream(
+                objectMapper,
+                Map.of(),
+                "banks",
+                action -> bankService.forEachBank(activeOnly, action),
+                (Bank bank) -> new BankCollection.Item(new BankResponseDTO(bank), halLinks.bankLinks(bank.id)),
+                Map.of("_links", collectionLinks));
+
+        return Response.ok(body).build();
+    }
+
+    @GET
+    @RequiresRole("ADMIN")
+    @Path("/cache/stats")
+    @Operation(summary = "Get bank cache statistics",
+            description = "Returns hit, miss and eviction counts for the bank lookup caches and the second-level cache")
+    @APIResponse(
+            responseCode = "200",
+            description = "Bank cache statistics",
+            content = @Content(mediaType = "application/json")
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Response getCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("byBranchCode", cacheStats(bankCache.branchCodeStats(), bankCache.branchCodeSize()));
+        response.put("byId", cacheStats(bankCache.idStats(), bankCache.idSize()));
+        response.put("secondLevel", secondLevelCacheStats(sessionFactory.getStatistics()));
 
-        response.put("_links", collectionLinks);
+        Map<String, String> links = new HashMap<>();
+        links.put("self", uriInfo.getAbsolutePath().toString());
+        response.put("_links", links);
 
         return Response.ok(response).build();
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> cacheStats(CacheStats stats, long size) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("size", size);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadCount", stats.loadCount());
+        return result;
+    }
+
+    private Map<String, Object> secondLevelCacheStats(Statistics statistics) {
+        Map<String, Object> result = new HashMap<>();
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Bank.class.getName());
+        result.put("entityHitCount", region.getHitCount());
+        result.put("entityMissCount", region.getMissCount());
+        result.put("entityPutCount", region.getPutCount());
+        result.put("entityElementCount", region.getElementCountInMemory());
+        return result;
+    }
+}
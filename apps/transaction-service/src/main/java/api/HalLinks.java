@@ -0,0 +1,123 @@
+package api;
+
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.UriInfo;
+import models.TransactionStatus;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: HalLinks
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public final class HalLinks {
+
+    // Resource paths are read off the @Path annotations once, at class load
+    private static final String TRANSACTIONS_PATH = resourcePath(TransactionResource.class);
+    private static final String BANKS_PATH = resourcePath(BankResource.class);
+
+    private final String transactions;
+    private final String banks;
+    private final String batchPrefix;
+
+    private HalLinks(String baseUri) {
+        this.transactions = baseUri + TRANSACTIONS_PATH;
+        this.banks = baseUri + BANKS_PATH;
+        this.batchPrefix = transactions + "/batch/";
+    }
+
+    /**
+     * Resolves the base URI once for the current request. Everything after that is string
+     * concatenation, so per-item links cost a few Strings instead of a UriBuilder chain each.
+     */
+    public static HalLinks forRequest(UriInfo uriInfo) {
+        String baseUri = uriInfo.getBaseUri().toString();
+        if (baseUri.endsWith("/")) {
+            baseUri = baseUri.substring(0, baseUri.length() - 1);
+        }
+        return new HalLinks(baseUri);
+    }
+
+    /**
+     * Percent-encodes a value for use as one path segment. Generated UUIDs are all unreserved
+     * characters and come back unchanged without allocating.
+     */
+    static String pathSegment(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isUnreserved(value.charAt(i))) {
+                // URLEncoder is for form bodies: a space there is '+', in a path it has to be %20
+                return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+            }
+        }
+        return value;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static String resourcePath(Class<?> resource) {
+        String path = resource.getAnnotation(Path.class).value();
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
+    public String transactions() {
+        return transactions;
+    }
+
+    public String transaction(Long id) {
+        return transactions + '/' + id;
+    }
+
+    // The batch id may be the decoded {batchId} path parameter, so it is encoded again here
+    public String batch(String batchId) {
+        return batchPrefix + pathSegment(batchId);
+    }
+
+    public String status(TransactionStatus status) {
+        return transactions + "/status/" + status.name();
+    }
+
+    public String banks() {
+        return banks;
+    }
+
+    public String bank(Long id) {
+        return banks + '/' + id;
+    }
+
+    /**
+     * Links for one transaction in a collection. self/update/delete share one String and the
+     * map is immutable and sized to fit, which keeps large listings cheap.
+     */
+    public Map<String, String> transactionLinks(Long id, String batchId, boolean canDecide) {
+        String self = transaction(id);
+        String batch = batchId == null ? null : batch(batchId);
+
+        if (canDecide) {
+            String approve = self + "/approve";
+            String reject = self + "/reject";
+            return batch == null
+                    ? Map.of("self", self, "update", self, "delete", self,
+                            "approve", approve, "reject", reject, "collection", transactions)
+                    : Map.of("self", self, "update", self, "delete", self,
+                            "approve", approve, "reject", reject, "collection", transactions, "batch", batch);
+        }
+        return batch == null
+                ? Map.of("self", self, "update", self, "delete", self, "collection", transactions)
+                : Map.of("self", self, "update", self, "delete", self, "collection", transactions, "batch", batch);
+    }
+
+    public Map<String, String> bankLinks(Long id) {
+        String self = bank(id);
+        return Map.of("self", self, "update", self, "delete", self, "toggle-status", self + "/toggle-status");
+    }
+}
@@ -0,0 +1,132 @@
+package api;
+
+import dto.BulkJobResponseDTO;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.*;
+import models.BulkJob;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import service.IBulkJobService;
+import util.RequiresRole;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: JobResource
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Path("/api/v1/jobs")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "Job", description = "Progress of asynchronous bulk operations")
+@RequiresRole({"TRANSACTION_CREATOR", "TRANSACTION_APPROVER", "ADMIN"})
+public class JobResource {
+
+    @Inject
+    IBulkJobService bulkJobService;
+
+    @Context
+    UriInfo uriInfo;
+
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Get job progress",
+            description = "Reports status, processed/failed counts and an ETA for an asynchronous bulk job")
+    @APIResponse(
+            responseCode = "200",
+            description = "Job found",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkJobResponseDTO.class))
+    )
+    @APIResponse(
+            responseCode = "404",
+            description = "Job not found"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Response getJob(@PathParam("id") Long id) {
+        BulkJob job = bulkJobService.getJob(id);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("job", new BulkJobResponseDTO(job));
+
+        Map<String, String> links = new HashMap<>();
+
+        // Self link - poll this until the job is finished
+        URI selfUri = uriInfo.getAbsolutePath();
+        links.put("self", selfUri.toString());
+
+        // Batch link - the transactions the job works on
+        URI batchUri = uriInfo.getBaseUriBuilder()
+                .path(TransactionResource.class)
+                .path("batch")
+                .path(job.getBatchId())
+                .build();
+        links.put("batch", batchUri.toString());
+
+        response.put("_links", links);
+
+        return Response.ok(response).build();
+    }
+}
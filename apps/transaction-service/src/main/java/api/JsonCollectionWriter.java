@@ -0,0 +1,73 @@
+package api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: JsonCollectionWriter
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public final class JsonCollectionWriter {
+
+    private JsonCollectionWriter() {
+    }
+
+    /**
+     * Writes {@code {<header fields>, "<itemsField>": [...], "count": n, <trailer fields>}} as rows
+     * arrive from {@code source}, one item at a time, so nothing but the current row is held in
+     * memory and the first bytes go out before the last row is read. {@code source} runs inside
+     * {@link StreamingOutput#write}, i.e. after the resource method has returned; anything that
+     * can fail with a 4xx has to be checked before the StreamingOutput is handed back.
+     */
+    public static <T> StreamingOutput stream(ObjectMapper objectMapper,
+                                             Map<String, ?> header,
+                                             String itemsField,
+                                             Consumer<Consumer<T>> source,
+                                             Function<T, ?> toItem,
+                                             Map<String, ?> trailer) {
+        return output -> {
+            JsonGenerator generator = objectMapper.createGenerator(output);
+            try {
+                generator.writeStartObject();
+                writeFields(generator, header);
+
+                generator.writeArrayFieldStart(itemsField);
+                long[] count = {0};
+                source.accept(row -> {
+                    try {
+                        generator.writeObject(toItem.apply(row));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+                generator.writeEndArray();
+
+                generator.writeNumberField("count", count[0]);
+                writeFields(generator, trailer);
+                generator.writeEndObject();
+                generator.flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static void writeFields(JsonGenerator generator, Map<String, ?> fields) throws IOException {
+        for (Map.Entry<String, ?> field : fields.entrySet()) {
+            generator.writeObjectField(field.getKey(), field.getValue());
+        }
+    }
+}
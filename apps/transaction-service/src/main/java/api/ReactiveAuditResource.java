@@ -0,0 +1,100 @@
+package api;
+
+import dto.AuditLogResponseDTO;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import service.IReactiveReadService;
+import util.RequiresRole;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: ReactiveAuditResource
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Path("/api/v1/reactive/audit")
+@Produces(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "AuditLog (reactive)", description = "Non-blocking audit trail listing")
+@RequiresRole("ADMIN")
+public class ReactiveAuditResource {
+
+    @Inject
+    IReactiveReadService readService;
+
+    @GET
+    @Operation(summary = "Stream all audit logs (non-blocking)",
+            description = "Streams all audit logs as a JSON array, written as rows are read")
+    @APIResponse(
+            responseCode = "200",
+            description = "List of audit logs",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(type = SchemaType.ARRAY, implementation = AuditLogResponseDTO.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Multi<AuditLogResponseDTO> getAllAuditLogs() {
+        return readService.streamAuditLogs();
+    }
+}
@@ -0,0 +1,169 @@
+package api;
+
+import dto.BankCollection;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import service.IReactiveReadService;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: ReactiveBankResource
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Path("/api/v1/reactive/banks")
+@Produces(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "Bank (reactive)", description = "Non-blocking bank listings for high-concurrency readers")
+public class ReactiveBankResource {
+
+    @Inject
+    IReactiveReadService readService;
+
+    @Context
+    UriInfo uriInfo;
+
+    @GET
+    @Operation(summary = "Stream all banks (non-blocking)",
+            description = "Streams all banks as a JSON array, written as rows are read")
+    @APIResponse(
+            responseCode = "200",
+            description = "List of banks",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(type = SchemaType.ARRAY, implementation = BankCollection.Item.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Multi<BankCollection.Item> getAllBanks() {
+        return streamBanks(false);
+    }
+
+    @GET
+    @Path("/active")
+    @Operation(summary = "Stream active banks (non-blocking)",
+            description = "Streams the active banks as a JSON array, written as rows are read")
+    @APIResponse(
+            responseCode = "200",
+            description = "List of active banks",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(type = SchemaType.ARRAY, implementation = BankCollection.Item.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Multi<BankCollection.Item> getAllActiveBanks() {
+        return streamBanks(true);
+    }
+
+    private Multi<BankCollection.Item> streamBanks(boolean activeOnly) {
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
+        return readService.streamBanks(activeOnly)
+                .map(bank -> new BankCollection.Item(bank, halLinks.bankLinks(bank.getId())));
+    }
+}
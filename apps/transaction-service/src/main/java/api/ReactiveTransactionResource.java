@@ -0,0 +1,277 @@
+package api;
+
+import dto.TransactionFilterDTO;
+import dto.TransactionPage;
+import dto.TransactionResponseDTO;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.UriInfo;
+import models.TransactionStatus;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import service.IReactiveReadService;
+import service.ITransactionService;
+import util.RequiresRole;
+import util.SecurityContext;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: ReactiveTransactionResource
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Path("/api/v1/reactive/transactions")
+@Produces(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "Transaction (reactive)", description = "Non-blocking transaction listings for high-concurrency readers")
+public class ReactiveTransactionResource {
+
+    @Inject
+    IReactiveReadService readService;
+
+    @Inject
+    ITransactionService transactionService;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Context
+    UriInfo uriInfo;
+
+    @GET
+    @RequiresRole({"TRANSACTION_CREATOR", "TRANSACTION_APPROVER", "TRANSACTION_VIEWER"})
+    @Operation(summary = "List transactions (non-blocking)",
+            description = "Same filters, ordering and cursor as GET /api/v1/transactions, served from the event loop")
+    @APIResponse(
+            responseCode = "200",
+            description = "Page of transactions",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TransactionPage.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Invalid status, cursor or limit"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Uni<TransactionPage> listTransactions(@BeanParam TransactionFilterDTO filter) {
+        // Everything request-scoped is read now; the page is mapped once the query completes
+        Function<TransactionResponseDTO, TransactionPage.Item> toItem =
+                TransactionResource.itemMapper(HalLinks.forRequest(uriInfo), securityContext);
+        URI requestUri = uriInfo.getRequestUri();
+        UriBuilder nextUri = uriInfo.getRequestUriBuilder();
+
+        return readService.listTransactions(filter).map(page -> {
+            List<TransactionPage.Item> items = page.getItems().stream().map(toItem).toList();
+
+            // Create links map
+            Map<String, String> links = new HashMap<>();
+            links.put("self", requestUri.toString());
+            if (page.getNextCursor() != null) {
+                links.put("next", nextUri.replaceQueryParam("cursor", page.getNextCursor()).build().toString());
+            }
+
+            return new TransactionPage(items, items.size(), null, null, page.getLimit(), page.getNextCursor(), links);
+        });
+    }
+
+    @GET
+    @RequiresRole({"TRANSACTION_CREATOR", "TRANSACTION_APPROVER", "TRANSACTION_VIEWER"})
+    @Path("/batch/{batchId}")
+    @Operation(summary = "Stream transactions by batch ID (non-blocking)",
+            description = "Streams the transactions of a batch as a JSON array, written as rows are read")
+    @APIResponse(
+            responseCode = "200",
+            description = "Transactions found",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionPage.Item.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Multi<TransactionPage.Item> getTransactionsByBatchId(@PathParam("batchId") String batchId) {
+        return readService.streamTransactionsInBatch(batchId)
+                .map(TransactionResource.itemMapper(HalLinks.forRequest(uriInfo), securityContext));
+    }
+
+    @GET
+    @RequiresRole({"TRANSACTION_CREATOR", "TRANSACTION_APPROVER", "TRANSACTION_VIEWER"})
+    @Path("/status/{status}")
+    @Operation(summary = "Stream transactions by status (non-blocking)",
+            description = "Streams the transactions with the specified status as a JSON array, written as rows are read")
+    @APIResponse(
+            responseCode = "200",
+            description = "Transactions found",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(type = SchemaType.ARRAY, implementation = TransactionPage.Item.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Invalid status provided"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Multi<TransactionPage.Item> getTransactionsByStatus(@PathParam("status") String status) {
+        // Validated up front: once streaming starts the 200 is already on the wire
+        TransactionStatus transactionStatus = transactionService.parseStatus(status);
+        return readService.streamTransactionsWithStatus(transactionStatus)
+                .map(TransactionResource.itemMapper(HalLinks.forRequest(uriInfo), securityContext));
+    }
+}
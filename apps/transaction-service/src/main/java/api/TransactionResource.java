@@ -1,11 +1,14 @@
 package api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dto.*;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.*;
+import models.BulkJob;
 import models.Transaction;
 import models.TransactionStatus;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -17,14 +20,18 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import service.IBulkJobService;
 import service.TransactionService;
 import util.RequiresRole;
 import util.SecurityContext;
+import util.StreamedBody;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -40,15 +47,22 @@ import java.util.stream.Collectors;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @ApplicationScoped
+@RunOnVirtualThread
 @Tag(name = "Transaction", description = "Transaction management operations")
 public class TransactionResource {
 
     @Inject
     TransactionService transactionService;
 
+    @Inject
+    IBulkJobService bulkJobService;
+
     @Inject
     SecurityContext securityContext;
 
+    @Inject
+    ObjectMapper objectMapper;
+
     @Context
     UriInfo uriInfo;
 
@@ -198,6 +212,12 @@ public class TransactionResource {
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = BulkTransactionResponseDTO.class))
     )
+    @APIResponse(
+            responseCode = "202",
+            description = "Accepted as an asynchronous job (async=true); poll the job link for progress",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkJobResponseDTO.class))
+    )
     @APIResponse(
             responseCode = "400",
             description = "Missing required X-Tenant-ID header"
@@ -244,120 +264,121 @@ public class TransactionResource {
                     schema = @Schema(type = SchemaType.STRING)
             )
     })
-    public Response createBulkTransactions(@Valid BulkTransactionRequestDTO requestDTO) {
+    public Response createBulkTransactions(
+            @Valid BulkTransactionRequestDTO requestDTO,
+            @QueryParam("async") @DefaultValue("false") boolean async) {
 
         String userId = securityContext.getUserId();
 
+        if (async) {
+            return acceptedJob(bulkJobService.submitBulkCreate(requestDTO, userId));
+        }
+
         List<Transaction> transactions = transactionService.createBulkTransactions(requestDTO, userId);
         String batchId = transactions.get(0).getBatchId();
-        BulkTransactionResponseDTO responseDTO = new BulkTransactionResponseDTO(batchId, transactions);
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
+
+        return Response.created(URI.create(halLinks.batch(batchId)))
+                .entity(batchResponse(halLinks, batchId, transactions))
+                .build();
+    }
+
+    @POST
+    @RequiresRole("TRANSACTION_CREATOR")
+    @Path("/bulk/stream")
+    @Consumes("application/x-ndjson")
+    @StreamedBody
+    @Operation(summary = "Stream transactions into a batch as NDJSON",
+            description = "Reads one transaction per line and commits them in chunks under a common batch ID. "
+                    + "Invalid or over-long lines are skipped and reported by line number. "
+                    + "Send large files with chunked transfer encoding")
+    @APIResponse(
+            responseCode = "201",
+            description = "At least one line was accepted",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkIngestResultDTO.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Empty body, or no line was accepted"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public Response ingestTransactions(InputStream body) {
+        String userId = securityContext.getUserId();
+
+        BulkIngestResultDTO result = transactionService.ingestNdjson(body, userId);
 
-        // Create a wrapper object for the response with links
         Map<String, Object> response = new HashMap<>();
-        response.put("batch", responseDTO);
+        response.put("result", result);
 
-        // Create links map
-        Map<String, Object> links = new HashMap<>();
+        Map<String, String> links = new HashMap<>();
 
-        // Self/batch link
         URI batchUri = uriInfo.getBaseUriBuilder()
                 .path(TransactionResource.class)
                 .path("batch")
-                .path(batchId)
+                .path(result.getBatchId())
                 .build();
-        links.put("self", batchUri.toString());
+        if (result.getAcceptedCount() > 0) {
+            links.put("batch", batchUri.toString());
+        }
 
-        // Collection link
         URI transactionsUri = uriInfo.getBaseUriBuilder()
                 .path(TransactionResource.class)
                 .build();
         links.put("transactions", transactionsUri.toString());
 
-        // Links for individual transactions
-        Map<String, Object> transactionLinks = new HashMap<>();
-        for (Transaction transaction : transactions) {
-            URI transactionUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-
-            Map<String, String> txLinks = new HashMap<>();
-            txLinks.put("self", transactionUri.toString());
-            // Self link - link to this resource
-            URI selfUri = uriInfo.getAbsolutePathBuilder()
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("self", selfUri.toString());
-
-            // Update link - PUT to the same URI
-            URI updateUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("update", updateUri.toString());
-
-            // Delete link - DELETE to the same URI
-            URI deleteUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("delete", deleteUri.toString());
-
-            if (transaction.getStatus() == TransactionStatus.PENDING_APPROVAL) {
-                // Check if user has approver role
-                if (securityContext.hasRole("TRANSACTION_APPROVER") &&
-                        !transaction.getCreatedBy().equals(securityContext.getUserId())) {
-
-                    URI approveUri = uriInfo.getBaseUriBuilder()
-                            .path(TransactionResource.class)
-                            .path(String.valueOf(transaction.id))
-                            .path("approve")
-                            .build();
-                    links.put("approve", approveUri.toString());
-
-                    URI rejectUri = uriInfo.getBaseUriBuilder()
-                            .path(TransactionResource.class)
-                            .path(String.valueOf(transaction.id))
-                            .path("reject")
-                            .build();
-                    links.put("reject", rejectUri.toString());
-                }
-            }
+        response.put("_links", links);
 
-            // Collection link - back to all banks
-            URI collectionUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
+        if (result.getAcceptedCount() == 0) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(response)
                     .build();
-            links.put("collection", collectionUri.toString());
-
-            transactionLinks.put(String.valueOf(transaction.id), txLinks);
         }
-        links.put("transactions", transactionLinks);
-
-        // Add status filter link
-        URI pendingUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("status")
-                .path("PENDING_APPROVAL")
-                .build();
-        links.put("pending-transactions", pendingUri.toString());
-
-        URI approvedUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("status")
-                .path("APPROVED")
-                .build();
-        links.put("approved-transactions", approvedUri.toString());
-
-        URI rejectedUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("status")
-                .path("REJECTED")
-                .build();
-        links.put("rejected-transactions", rejectedUri.toString());
-
-        response.put("_links", links);
-
         return Response.created(batchUri)
                 .entity(response)
                 .build();
@@ -509,7 +530,7 @@ public class TransactionResource {
             responseCode = "200",
             description = "Transactions found",
             content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = BulkTransactionResponseDTO.class))
+                    schema = @Schema(implementation = TransactionPage.class))
     )
     @APIResponse(
             responseCode = "400",
@@ -558,7 +579,35 @@ public class TransactionResource {
             )
     })
     public Response getTransactionsByBatchId(@PathParam("batchId") String batchId) {
-        List<Transaction> transactions = transactionService.getTransactionsByBatchId(batchId);
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
+
+        // Create links map
+        Map<String, String> links = new HashMap<>();
+
+        // Self/batch link
+        links.put("self", halLinks.batch(batchId));
+
+        // Collection link
+        links.put("transactions", halLinks.transactions());
+
+        // Add status filter links
+        links.put("pending-transactions", halLinks.status(TransactionStatus.PENDING_APPROVAL));
+        links.put("approved-transactions", halLinks.status(TransactionStatus.APPROVED));
+        links.put("rejected-transactions", halLinks.status(TransactionStatus.REJECTED));
+
+        // Rows are written as they are read; see JsonCollectionWriter
+        StreamingOutput body = JsonCollectionWriter.stream(
+                objectMapper,
+                Map.of("batchId", batchId),
+                "transactions",
+                action -> transactionService.forEachTransactionInBatch(batchId, action),
+                itemMapper(halLinks, securityContext),
+                Map.of("_links", links));
+
+        return Response.ok(body).build();
+    }
+
+    private Map<String, Object> batchResponse(HalLinks halLinks, String batchId, List<Transaction> transactions) {
         BulkTransactionResponseDTO responseDTO = new BulkTransactionResponseDTO(batchId, transactions);
 
         // Create a wrapper object for the response with links
@@ -569,107 +618,30 @@ public class TransactionResource {
         Map<String, Object> links = new HashMap<>();
 
         // Self/batch link
-        URI batchUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("batch")
-                .path(batchId)
-                .build();
-        links.put("self", batchUri.toString());
+        links.put("self", halLinks.batch(batchId));
 
         // Collection link
-        URI transactionsUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .build();
-        links.put("transactions", transactionsUri.toString());
+        links.put("transactions", halLinks.transactions());
 
         // Links for individual transactions
-        Map<String, Object> transactionLinks = new HashMap<>();
+        boolean approver = securityContext.hasRole("TRANSACTION_APPROVER");
+        String userId = securityContext.getUserId();
+        Map<String, Object> transactionLinks = new HashMap<>(transactions.size() * 4 / 3 + 1);
         for (Transaction transaction : transactions) {
-            URI transactionUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-
-            Map<String, String> txLinks = new HashMap<>();
-            txLinks.put("self", transactionUri.toString());
-            // Self link - link to this resource
-            URI selfUri = uriInfo.getAbsolutePathBuilder()
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("self", selfUri.toString());
-
-            // Update link - PUT to the same URI
-            URI updateUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("update", updateUri.toString());
-
-            // Delete link - DELETE to the same URI
-            URI deleteUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("delete", deleteUri.toString());
-
-            if (transaction.getStatus() == TransactionStatus.PENDING_APPROVAL) {
-                // Check if user has approver role
-                if (securityContext.hasRole("TRANSACTION_APPROVER") &&
-                        !transaction.getCreatedBy().equals(securityContext.getUserId())) {
-
-                    URI approveUri = uriInfo.getBaseUriBuilder()
-                            .path(TransactionResource.class)
-                            .path(String.valueOf(transaction.id))
-                            .path("approve")
-                            .build();
-                    links.put("approve", approveUri.toString());
-
-                    URI rejectUri = uriInfo.getBaseUriBuilder()
-                            .path(TransactionResource.class)
-                            .path(String.valueOf(transaction.id))
-                            .path("reject")
-                            .build();
-                    links.put("reject", rejectUri.toString());
-                }
-            }
-
-            // Collection link - back to all banks
-            URI collectionUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .build();
-            links.put("collection", collectionUri.toString());
-
-            transactionLinks.put(String.valueOf(transaction.id), txLinks);
+            boolean canDecide = approver
+                    && transaction.getStatus() == TransactionStatus.PENDING_APPROVAL
+                    && !transaction.getCreatedBy().equals(userId);
+            transactionLinks.put(String.valueOf(transaction.id), halLinks.transactionLinks(transaction.id, transaction.getBatchId(), canDecide));
         }
         links.put("transactions", transactionLinks);
 
-        // Add status filter link
-        URI pendingUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("status")
-                .path("PENDING_APPROVAL")
-                .build();
-        links.put("pending-transactions", pendingUri.toString());
-
-        URI approvedUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("status")
-                .path("APPROVED")
-                .build();
-        links.put("approved-transactions", approvedUri.toString());
-
-        URI rejectedUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .path("status")
-                .path("REJECTED")
-                .build();
-        links.put("rejected-transactions", rejectedUri.toString());
+        // Add status filter links
+        links.put("pending-transactions", halLinks.status(TransactionStatus.PENDING_APPROVAL));
+        links.put("approved-transactions", halLinks.status(TransactionStatus.APPROVED));
+        links.put("rejected-transactions", halLinks.status(TransactionStatus.REJECTED));
 
         response.put("_links", links);
-
-        return Response.created(batchUri)
-                .entity(response)
-                .build();
+        return response;
     }
 
     @PUT
@@ -966,6 +938,87 @@ public class TransactionResource {
                 .build();
     }
 
+    @GET
+    @RequiresRole({"TRANSACTION_CREATOR", "TRANSACTION_APPROVER", "TRANSACTION_VIEWER"})
+    @Operation(summary = "List transactions",
+            description = "Returns one page of transactions, newest first, filtered by status, bank, batch, "
+                    + "currency, amount range and creation date range. Follow the next link (or pass "
+                    + "nextCursor as cursor) to fetch the following page")
+    @APIResponse(
+            responseCode = "200",
+            description = "Page of transactions",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TransactionPage.class))
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Invalid status, cursor or limit"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-Tenant-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-ID header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Email header"
+    )
+    @APIResponse(
+            responseCode = "400",
+            description = "Missing required X-User-Roles header"
+    )
+    @Parameters({
+            @Parameter(
+                    name = "X-Tenant-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "Tenant identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-ID",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User identifier",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Email",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Email",
+                    schema = @Schema(type = SchemaType.STRING)
+            ),
+            @Parameter(
+                    name = "X-User-Roles",
+                    in = ParameterIn.HEADER,
+                    required = true,
+                    description = "User Roles",
+                    schema = @Schema(type = SchemaType.STRING)
+            )
+    })
+    public TransactionPage listTransactions(@BeanParam TransactionFilterDTO filter) {
+        KeysetPage<TransactionResponseDTO> page = transactionService.listTransactions(filter);
+        List<TransactionPage.Item> items = page.getItems().stream()
+                .map(itemMapper(HalLinks.forRequest(uriInfo), securityContext))
+                .toList();
+
+        // Create links map
+        Map<String, String> links = new HashMap<>();
+        links.put("self", uriInfo.getRequestUri().toString());
+        if (page.getNextCursor() != null) {
+            URI nextUri = uriInfo.getRequestUriBuilder()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .build();
+            links.put("next", nextUri.toString());
+        }
+
+        return new TransactionPage(items, items.size(), null, null, page.getLimit(), page.getNextCursor(), links);
+    }
+
     @GET
     @RequiresRole({"TRANSACTION_CREATOR", "TRANSACTION_APPROVER", "TRANSACTION_VIEWER"})
     @Path("/status/{status}")
@@ -974,7 +1027,8 @@ public class TransactionResource {
     @APIResponse(
             responseCode = "200",
             description = "Transactions found",
-            content = @Content(mediaType = "application/json")
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TransactionPage.class))
     )
     @APIResponse(
             responseCode = "400",
@@ -1027,110 +1081,49 @@ public class TransactionResource {
             )
     })
     public Response getTransactionsByStatus(@PathParam("status") String status) {
-        List<Transaction> transactions = transactionService.getTransactionsByStatus(status);
-        List<TransactionResponseDTO> responseDTOs = transactions.stream()
-                .map(TransactionResponseDTO::new)
-                .toList();
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("count", transactions.size());
-        response.put("status", status);
-        response.put("transactions", transactions);
+        // Validated up front: once streaming starts the 200 is already on the wire
+        TransactionStatus transactionStatus = transactionService.parseStatus(status);
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
 
         // Create links map
-        Map<String, Object> links = new HashMap<>();
+        Map<String, String> links = new HashMap<>();
 
         // Self link
-        URI selfUri = uriInfo.getAbsolutePath();
-        links.put("self", selfUri.toString());
+        links.put("self", uriInfo.getAbsolutePath().toString());
 
         // Collection link
-        URI transactionsUri = uriInfo.getBaseUriBuilder()
-                .path(TransactionResource.class)
-                .build();
-        links.put("transactions", transactionsUri.toString());
+        links.put("transactions", halLinks.transactions());
 
         // Add other status links
-        TransactionStatus[] allStatuses = TransactionStatus.values();
-        for (TransactionStatus ts : allStatuses) {
-            if (!ts.name().equalsIgnoreCase(status)) {
-                URI statusUri = uriInfo.getBaseUriBuilder()
-                        .path(TransactionResource.class)
-                        .path("status")
-                        .path(ts.name())
-                        .build();
-                links.put(ts.name().toLowerCase() + "-transactions", statusUri.toString());
+        for (TransactionStatus ts : TransactionStatus.values()) {
+            if (ts != transactionStatus) {
+                links.put(ts.name().toLowerCase() + "-transactions", halLinks.status(ts));
             }
         }
 
-        // Links for individual transactions
-        Map<String, Object> transactionLinks = new HashMap<>();
-        for (Transaction transaction : transactions) {
-            URI transactionUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-
-            Map<String, String> txLinks = new HashMap<>();
-            txLinks.put("self", transactionUri.toString());
-            // Update link - PUT to the same URI
-            URI updateUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("update", updateUri.toString());
-
-            // Delete link - DELETE to the same URI
-            URI deleteUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .path(String.valueOf(transaction.id))
-                    .build();
-            links.put("delete", deleteUri.toString());
-
-            // Add batch link if part of a batch
-            if (transaction.getBatchId() != null) {
-                URI batchUri = uriInfo.getBaseUriBuilder()
-                        .path(TransactionResource.class)
-                        .path("batch")
-                        .path(transaction.getBatchId())
-                        .build();
-                txLinks.put("batch", batchUri.toString());
-            }
-
-            if (transaction.getStatus() == TransactionStatus.PENDING_APPROVAL) {
-                // Check if user has approver role
-                if (securityContext.hasRole("TRANSACTION_APPROVER") &&
-                        !transaction.getCreatedBy().equals(securityContext.getUserId())) {
-
-                    URI approveUri = uriInfo.getBaseUriBuilder()
-                            .path(TransactionResource.class)
-                            .path(String.valueOf(transaction.id))
-                            .path("approve")
-                            .build();
-                    links.put("approve", approveUri.toString());
-
-                    URI rejectUri = uriInfo.getBaseUriBuilder()
-                            .path(TransactionResource.class)
-                            .path(String.valueOf(transaction.id))
-                            .path("reject")
-                            .build();
-                    links.put("reject", rejectUri.toString());
-                }
-            }
-
-            // Collection link - back to all banks
-            URI collectionUri = uriInfo.getBaseUriBuilder()
-                    .path(TransactionResource.class)
-                    .build();
-            links.put("collection", collectionUri.toString());
+        StreamingOutput body = JsonCollectionWriter.stream(
+                objectMapper,
+                Map.of("status", status),
+                "transactions",
+                action -> transactionService.forEachTransactionWithStatus(transactionStatus, action),
+                itemMapper(halLinks, securityContext),
+                Map.of("_links", links));
 
-            transactionLinks.put(String.valueOf(transaction.id), txLinks);
-        }
-        links.put("transaction-details", transactionLinks);
-
-        response.put("_links", links);
+        return Response.ok(body).build();
+    }
 
-        return Response.ok(response).build();
+    // Role and user are read up front, so the mapper can run after the request thread has moved on
+    static Function<TransactionResponseDTO, TransactionPage.Item> itemMapper(HalLinks halLinks, SecurityContext securityContext) {
+        boolean approver = securityContext.hasRole("TRANSACTION_APPROVER");
+        String userId = securityContext.getUserId();
+        return transaction -> {
+            boolean canDecide = approver
+                    && transaction.getStatus() == TransactionStatus.PENDING_APPROVAL
+                    && !transaction.getCreatedBy().equals(userId);
+            return new TransactionPage.Item(
+                    transaction,
+                    halLinks.transactionLinks(transaction.getId(), transaction.getBatchId(), canDecide));
+        };
     }
 
     @PUT
@@ -1142,6 +1135,12 @@ public class TransactionResource {
             description = "Transactions approved successfully",
             content = @Content(mediaType = "application/json")
     )
+    @APIResponse(
+            responseCode = "202",
+            description = "Accepted as an asynchronous job (async=true); poll the job link for progress",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkJobResponseDTO.class))
+    )
     @APIResponse(
             responseCode = "400",
             description = "Invalid batch ID or no pending transactions in batch"
@@ -1166,11 +1165,16 @@ public class TransactionResource {
     })
     public Response batchApproveTransactions(
             @PathParam("batchId") String batchId,
-            @Valid ApprovalRequestDTO approvalDTO) {
+            @Valid ApprovalRequestDTO approvalDTO,
+            @QueryParam("async") @DefaultValue("false") boolean async) {
 
         // Get user ID from security context
         String approverId = securityContext.getUserId();
 
+        if (async) {
+            return acceptedJob(bulkJobService.submitBatchApprove(batchId, approvalDTO, approverId));
+        }
+
         // Call service layer to perform batch approval
         List<Transaction> approvedTransactions = transactionService.batchApproveTransactions(batchId, approvalDTO, approverId);
 
@@ -1278,6 +1282,12 @@ public class TransactionResource {
             description = "Transactions rejected successfully",
             content = @Content(mediaType = "application/json")
     )
+    @APIResponse(
+            responseCode = "202",
+            description = "Accepted as an asynchronous job (async=true); poll the job link for progress",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkJobResponseDTO.class))
+    )
     @APIResponse(
             responseCode = "400",
             description = "Invalid batch ID or no pending transactions in batch"
@@ -1302,11 +1312,16 @@ public class TransactionResource {
     })
     public Response batchRejectTransactions(
             @PathParam("batchId") String batchId,
-            @Valid RejectionRequestDTO rejectionDTO) {
+            @Valid RejectionRequestDTO rejectionDTO,
+            @QueryParam("async") @DefaultValue("false") boolean async) {
 
         // Get user ID from security context
         String rejecterId = securityContext.getUserId();
 
+        if (async) {
+            return acceptedJob(bulkJobService.submitBatchReject(batchId, rejectionDTO, rejecterId));
+        }
+
         // Call service layer to perform batch rejection
         List<Transaction> rejectedTransactions = transactionService.batchRejectTransactions(batchId, rejectionDTO, rejecterId);
 
@@ -1404,4 +1419,30 @@ public class TransactionResource {
 
         return Response.ok(response).build();
     }
+
+    private Response acceptedJob(BulkJob job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("job", new BulkJobResponseDTO(job));
+
+        Map<String, String> links = new HashMap<>();
+
+        URI jobUri = uriInfo.getBaseUriBuilder()
+                .path(JobResource.class)
+                .path(String.valueOf(job.id))
+                .build();
+        links.put("self", jobUri.toString());
+
+        URI batchUri = uriInfo.getBaseUriBuilder()
+                .path(TransactionResource.class)
+                .path("batch")
+                .path(job.getBatchId())
+                .build();
+        links.put("batch", batchUri.toString());
+
+        response.put("_links", links);
+
+        return Response.accepted(response)
+                .location(jobUri)
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: AuditLogPage
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public record AuditLogPage(
+        List<AuditLogResponseDTO> auditLogs,
+        int count,
+        @JsonProperty("_links") Map<String, String> links) {
+}
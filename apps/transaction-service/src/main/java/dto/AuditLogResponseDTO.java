@@ -38,6 +38,18 @@ public class AuditLogResponseDTO {
         this.details = auditLog.getDetails();
     }
 
+    // Column constructor for the reactive read path, which maps rows without going through the entity
+    public AuditLogResponseDTO(Long id, String entityType, Long entityId, String action, String userId,
+                               LocalDateTime timestamp, String details) {
+        this.id = id;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.userId = userId;
+        this.timestamp = timestamp;
+        this.details = details;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,26 @@
+package dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: BankCollection
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public record BankCollection(
+        List<Item> banks,
+        int count,
+        @JsonProperty("_links") Map<String, String> links) {
+
+    public record Item(
+            BankResponseDTO bank,
+            @JsonProperty("_links") Map<String, String> links) {
+    }
+}
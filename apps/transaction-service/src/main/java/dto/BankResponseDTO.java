@@ -24,6 +24,17 @@ public class BankResponseDTO {
     // Constructors
     public BankResponseDTO() {}
 
+    public BankResponseDTO(Long id, String name, String branchCode, String address,
+                           String contactPhone, String contactEmail, boolean active) {
+        this.id = id;
+        this.name = name;
+        this.branchCode = branchCode;
+        this.address = address;
+        this.contactPhone = contactPhone;
+        this.contactEmail = contactEmail;
+        this.active = active;
+    }
+
     public BankResponseDTO(Bank bank) {
         this.id = bank.id;
         this.name = bank.getName();
@@ -0,0 +1,97 @@
+package dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: BulkIngestResultDTO
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public class BulkIngestResultDTO {
+
+    private final String batchId;
+    private final int maxReportedErrors;
+    private long linesRead;
+    private long acceptedCount;
+    private long rejectedCount;
+    private int chunksCommitted;
+    private boolean errorsTruncated;
+    private final List<LineError> errors = new ArrayList<>();
+
+    public BulkIngestResultDTO(String batchId, int maxReportedErrors) {
+        this.batchId = batchId;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void recordLineRead() {
+        linesRead++;
+    }
+
+    public void recordChunkCommitted(int rows) {
+        chunksCommitted++;
+        acceptedCount += rows;
+    }
+
+    // Only the first maxReportedErrors lines are listed so a bad file can't blow up the response
+    public void recordRejected(long line, String message) {
+        rejectedCount++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new LineError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // Getters
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public int getChunksCommitted() {
+        return chunksCommitted;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    public static class LineError {
+
+        private final long line;
+        private final String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
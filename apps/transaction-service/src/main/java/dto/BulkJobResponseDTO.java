@@ -0,0 +1,117 @@
+package dto;
+
+import models.BulkJob;
+import models.BulkJobStatus;
+import models.BulkJobType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: BulkJobResponseDTO
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public class BulkJobResponseDTO {
+
+    private Long id;
+    private BulkJobType jobType;
+    private BulkJobStatus status;
+    private String batchId;
+    private long totalCount;
+    private long processedCount;
+    private long failedCount;
+    private int percentComplete;
+    private Long etaSeconds;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public BulkJobResponseDTO() {}
+
+    public BulkJobResponseDTO(BulkJob job) {
+        this.id = job.id;
+        this.jobType = job.getJobType();
+        this.status = job.getStatus();
+        this.batchId = job.getBatchId();
+        this.totalCount = job.getTotalCount();
+        this.processedCount = job.getProcessedCount();
+        this.failedCount = job.getFailedCount();
+        this.errorMessage = job.getErrorMessage();
+        this.createdAt = job.getCreatedAt();
+        this.startedAt = job.getStartedAt();
+        this.completedAt = job.getCompletedAt();
+
+        long done = processedCount + failedCount;
+        this.percentComplete = job.isFinished() || totalCount == 0
+                ? 100
+                : (int) Math.min(99, done * 100 / totalCount);
+
+        // Extrapolated from the rate so far; unknown until the first chunk lands
+        if (job.getStatus() == BulkJobStatus.RUNNING && done > 0 && startedAt != null) {
+            long elapsedMillis = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+            long remaining = Math.max(0, totalCount - done);
+            this.etaSeconds = elapsedMillis * remaining / done / 1000;
+        }
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public BulkJobType getJobType() {
+        return jobType;
+    }
+
+    public BulkJobStatus getStatus() {
+        return status;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public int getPercentComplete() {
+        return percentComplete;
+    }
+
+    // Null when the job isn't running or hasn't made progress yet
+    public Long getEtaSeconds() {
+        return etaSeconds;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,51 @@
+package dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: KeysetPage
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public class KeysetPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final int limit;
+
+    public KeysetPage(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Builds a page from a query that asked for {@code limit + 1} rows: the extra row only signals
+     * that another page exists, and the cursor is taken from the last row kept.
+     */
+    public static <T> KeysetPage<T> fromOverfetched(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null, limit);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new KeysetPage<>(page, cursorOf.apply(page.get(limit - 1)), limit);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    // Null when this is the last page
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,129 @@
+package dto;
+
+import jakarta.ws.rs.QueryParam;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: TransactionFilterDTO
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public class TransactionFilterDTO {
+
+    @QueryParam("status")
+    private String status;
+
+    @QueryParam("bankBranchCode")
+    private String bankBranchCode;
+
+    @QueryParam("batchId")
+    private String batchId;
+
+    @QueryParam("currency")
+    private String currency;
+
+    @QueryParam("minAmount")
+    private BigDecimal minAmount;
+
+    @QueryParam("maxAmount")
+    private BigDecimal maxAmount;
+
+    @QueryParam("from")
+    private LocalDateTime from;
+
+    @QueryParam("to")
+    private LocalDateTime to;
+
+    @QueryParam("cursor")
+    private String cursor;
+
+    @QueryParam("limit")
+    private Integer limit;
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getBankBranchCode() {
+        return bankBranchCode;
+    }
+
+    public void setBankBranchCode(String bankBranchCode) {
+        this.bankBranchCode = bankBranchCode;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,34 @@
+package dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: TransactionPage
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransactionPage(
+        List<Item> transactions,
+        int count,
+        // Only set by the batch / status listings
+        String batchId,
+        String status,
+        // Only set by the keyset listing; nextCursor is null on the last page
+        Integer limit,
+        String nextCursor,
+        @JsonProperty("_links") Map<String, String> links) {
+
+    public record Item(
+            TransactionResponseDTO transaction,
+            @JsonProperty("_links") Map<String, String> links) {
+    }
+}
@@ -1,6 +1,5 @@
 package dto;
 
-import models.Bank;
 import models.Transaction;
 import models.TransactionStatus;
 
@@ -21,7 +20,7 @@ public class TransactionResponseDTO {
     private Long id;
     private String accountName;
     private String accountNumber;
-    private Bank bank;
+    private BankResponseDTO bank;
     private String currency;
     private BigDecimal amount;
     private BigDecimal exchangeRate;
@@ -44,7 +43,7 @@ public class TransactionResponseDTO {
         this.id = transaction.id;
         this.accountName = transaction.getAccountName();
         this.accountNumber = transaction.getAccountNumber();
-        this.bank = transaction.getBank();
+        this.bank = new BankResponseDTO(transaction.getBank());
         this.currency = transaction.getMoney().getCurrency();
         this.amount = transaction.getMoney().getAmount();
         this.exchangeRate = transaction.getMoney().getExchangeRate();
@@ -61,6 +60,36 @@ public class TransactionResponseDTO {
         this.updatedAt = transaction.getUpdatedAt();
     }
 
+    // Projection constructor for TransactionRepository's "select new" queries; keep in step with its select list
+    public TransactionResponseDTO(Long id, String accountName, String accountNumber,
+                                  Long bankId, String bankName, String bankBranchCode, String bankAddress,
+                                  String bankContactPhone, String bankContactEmail, boolean bankActive,
+                                  String currency, BigDecimal amount, BigDecimal exchangeRate,
+                                  TransactionStatus status, String batchId, String createdBy, String approvedBy,
+                                  String rejectedBy, String approvalNotes, String rejectionReason,
+                                  LocalDateTime createdAt, LocalDateTime approvedAt, LocalDateTime rejectedAt,
+                                  LocalDateTime updatedAt) {
+        this.id = id;
+        this.accountName = accountName;
+        this.accountNumber = accountNumber;
+        this.bank = new BankResponseDTO(bankId, bankName, bankBranchCode, bankAddress,
+                bankContactPhone, bankContactEmail, bankActive);
+        this.currency = currency;
+        this.amount = amount;
+        this.exchangeRate = exchangeRate;
+        this.status = status;
+        this.batchId = batchId;
+        this.createdBy = createdBy;
+        this.approvedBy = approvedBy;
+        this.rejectedBy = rejectedBy;
+        this.approvalNotes = approvalNotes;
+        this.rejectionReason = rejectionReason;
+        this.createdAt = createdAt;
+        this.approvedAt = approvedAt;
+        this.rejectedAt = rejectedAt;
+        this.updatedAt = updatedAt;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -86,11 +115,11 @@ public class TransactionResponseDTO {
         this.accountNumber = accountNumber;
     }
 
-    public Bank getBank() {
+    public BankResponseDTO getBank() {
         return bank;
     }
 
-    public void setBank(Bank bank) {
+    public void setBank(BankResponseDTO bank) {
         this.bank = bank;
     }
 
@@ -1,9 +1,14 @@
 package models;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
@@ -18,14 +23,22 @@ import java.time.LocalDateTime;
  * © 2025 justice.m. All rights reserved
  **/
 @Entity
-@Table(name = "audit_logs")
-public class AuditLog extends PanacheEntity {
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_tenant_entity", columnList = "tenant_id, entity_type, entity_id")
+})
+public class AuditLog extends PanacheEntityBase {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 50)
+    public Long id;
+
     @Column(name = "tenant_id", nullable = false)
     public String tenantId;
     @Column(name = "entity_type", nullable = false)
     private String entityType;
 
-    @Column(name = "entity_id", nullable = false)
+    // Null for batch-level events, which have no single entity
+    @Column(name = "entity_id")
     private Long entityId;
 
     @Column(name = "action", nullable = false)
@@ -42,7 +55,10 @@ public class AuditLog extends PanacheEntity {
 
     @PrePersist
     protected void onCreate() {
-        timestamp = LocalDateTime.now();
+        // Write-behind entries carry the time the event happened, not the time it was drained
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
     }
 
     public AuditLog() {}
@@ -92,6 +108,10 @@ public class AuditLog extends PanacheEntity {
         return timestamp;
     }
 
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
     public String getDetails() {
         return details;
     }
@@ -0,0 +1,127 @@
+package models;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Project: pay-stream
+ * Module: models
+ * File: AuditOutbox
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Entity
+@Table(name = "audit_outbox")
+public class AuditOutbox extends PanacheEntityBase {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_outbox_seq")
+    @SequenceGenerator(name = "audit_outbox_seq", sequenceName = "audit_outbox_seq", allocationSize = 50)
+    public Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    public String tenantId;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "action", nullable = false)
+    private String action;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "timestamp", nullable = false)
+    private LocalDateTime timestamp;
+
+    @Column(name = "details", columnDefinition = "TEXT")
+    private String details;
+
+    public AuditOutbox() {}
+
+    public AuditOutbox(String tenantId, String entityType, Long entityId, String action, String userId, String details) {
+        this.tenantId = tenantId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.userId = userId;
+        this.details = details;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public AuditLog toAuditLog() {
+        AuditLog auditLog = new AuditLog(entityType, entityId, action, userId, details);
+        auditLog.setTenantId(tenantId);
+        auditLog.setTimestamp(timestamp);
+        return auditLog;
+    }
+
+    // Getters and Setters
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+}
@@ -1,8 +1,14 @@
 package models;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
@@ -18,11 +24,22 @@ import jakarta.validation.constraints.Size;
  * © 2025 justice.m. All rights reserved
  **/
 
+// Second-level cached, keyed by id alone: tenancy is the tenant_id column filter driven by X-Tenant-ID,
+// not a Hibernate tenant identifier. Ids come from one sequence shared by all tenants, and the region is
+// only reached by id from rows already tenant-filtered (a transaction's bank), so it cannot cross tenants
 @Entity
+@Cacheable
 @Table(name = "banks", uniqueConstraints = {
         @UniqueConstraint(name = "unique_branch_code_per_tenant", columnNames = {"branch_code", "tenant_id"})
+}, indexes = {
+        @Index(name = "idx_banks_tenant_branch_code", columnList = "tenant_id, branch_code")
 })
-public class Bank extends PanacheEntity {
+public class Bank extends PanacheEntityBase {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "banks_seq")
+    @SequenceGenerator(name = "banks_seq", sequenceName = "banks_seq", allocationSize = 50)
+    public Long id;
+
     @Column(name = "tenant_id", nullable = false)
     public String tenantId;
     @NotBlank(message = "Bank name is required")
@@ -0,0 +1,17 @@
+package models;
+
+/**
+ * Project: pay-stream
+ * Module: models
+ * File: BulkJobStatus
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public enum BulkJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
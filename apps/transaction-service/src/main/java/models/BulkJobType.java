@@ -0,0 +1,16 @@
+package models;
+
+/**
+ * Project: pay-stream
+ * Module: models
+ * File: BulkJobType
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public enum BulkJobType {
+    BULK_CREATE,
+    BATCH_APPROVE,
+    BATCH_REJECT
+}
@@ -1,6 +1,6 @@
 package models;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -19,8 +19,17 @@ import java.time.LocalDateTime;
  **/
 
 @Entity
-@Table(name = "transactions")
-public class Transaction extends PanacheEntity {
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_tenant_status_created", columnList = "tenant_id, status, created_at, id"),
+        @Index(name = "idx_transactions_tenant_created", columnList = "tenant_id, created_at, id"),
+        @Index(name = "idx_transactions_tenant_batch", columnList = "tenant_id, batch_id")
+})
+public class Transaction extends PanacheEntityBase {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
+    public Long id;
+
     @Column(name = "tenant_id", nullable = false)
     public String tenantId;
     @NotBlank(message = "Account name is required")
@@ -31,7 +40,9 @@ public class Transaction extends PanacheEntity {
     @Column(name = "account_number", nullable = false)
     private String accountNumber;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Lazy so a query only pays for the bank when its fetch plan asks for it; repository
+    // methods whose callers render the bank join fetch it explicitly
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bank_id", nullable = false)
     private Bank bank;
 
@@ -5,9 +5,12 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import models.AuditLog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
 import util.SecurityContext;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -26,6 +29,9 @@ public class AuditLogRepository implements PanacheRepository<AuditLog>, IAuditLo
     @Inject
     EntityManager entityManager;
 
+    @ConfigProperty(name = "pay-stream.streaming.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
     @Override
     public void setTenantFilter(AuditLog auditLog) {
         auditLog.setTenantId(securityContext.getTenantId());
@@ -40,4 +46,12 @@ public class AuditLogRepository implements PanacheRepository<AuditLog>, IAuditLo
     public List<AuditLog> listAll() {
         return list("tenantId", securityContext.getTenantId());
     }
+
+    @Override
+    public Stream<AuditLog> streamAll() {
+        return find("tenantId = ?1 order by id", securityContext.getTenantId())
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .withHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .stream();
+    }
 }
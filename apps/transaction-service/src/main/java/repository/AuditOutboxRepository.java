@@ -0,0 +1,59 @@
+package repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import models.AuditOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: AuditOutboxRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class AuditOutboxRepository implements IAuditOutboxRepository {
+
+    // Hibernate's SKIP LOCKED timeout, so concurrent drainers on other instances never move the same row twice
+    private static final int SKIP_LOCKED = -2;
+
+    @Override
+    public List<AuditOutbox> lockByIds(Collection<Long> ids) {
+        return find("id in ?1", ids)
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .withHint("jakarta.persistence.lock.timeout", SKIP_LOCKED)
+                .list();
+    }
+
+    @Override
+    public List<Long> findIdsOlderThan(LocalDateTime cutoff, long afterId, int limit) {
+        return getEntityManager()
+                .createQuery("select o.id from AuditOutbox o where o.timestamp < ?1 and o.id > ?2 order by o.id", Long.class)
+                .setParameter(1, cutoff)
+                .setParameter(2, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long deleteByIds(Collection<Long> ids) {
+        return delete("id in ?1", ids);
+    }
+
+    // Which of the ids this transaction removed; rows another transaction already deleted are left out
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> deleteReturningIds(Collection<Long> ids) {
+        List<Number> deleted = getEntityManager()
+                .createNativeQuery("delete from audit_outbox where id in (?1) returning id")
+                .setParameter(1, ids)
+                .getResultList();
+        return deleted.stream().map(Number::longValue).toList();
+    }
+}
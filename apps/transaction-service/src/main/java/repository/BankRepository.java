@@ -6,10 +6,14 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import models.Bank;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
 import util.SecurityContext;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -29,6 +33,9 @@ public class BankRepository implements PanacheRepository<Bank>, IBankRepository,
     @Inject
     EntityManager entityManager;
 
+    @ConfigProperty(name = "pay-stream.streaming.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
     @Override
     public void setTenantFilter(Bank bank) {
         bank.setTenantId(securityContext.getTenantId());
@@ -45,16 +52,38 @@ public class BankRepository implements PanacheRepository<Bank>, IBankRepository,
         return find("id = ?1 and tenantId = ?2", id, securityContext.getTenantId()).firstResultOptional();
     }
 
+    // Not a cacheable query: BankService looks banks up through BankCache, which already fronts this
     @Override
     public Optional<Bank> findByBranchCode(String branchCode) {
         return find("branchCode = ?1 and tenantId = ?2", branchCode, securityContext.getTenantId()).firstResultOptional();
     }
 
+    @Override
+    public List<Bank> findByBranchCodes(Collection<String> branchCodes) {
+        return list("branchCode in ?1 and tenantId = ?2", branchCodes, securityContext.getTenantId());
+    }
+
     @Override
     public List<Bank> findActiveBank() {
         return list("active = true and tenantId = ?1", securityContext.getTenantId());
     }
 
+    @Override
+    public Stream<Bank> streamAll() {
+        return find("tenantId = ?1 order by id", securityContext.getTenantId())
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .withHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .stream();
+    }
+
+    @Override
+    public Stream<Bank> streamActive() {
+        return find("active = true and tenantId = ?1 order by id", securityContext.getTenantId())
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .withHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .stream();
+    }
+
     @Override
     public List<Bank> listAll() {
         return list("tenantId", securityContext.getTenantId());
@@ -0,0 +1,104 @@
+package repository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import models.BulkJob;
+import models.BulkJobStatus;
+import util.SecurityContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: BulkJobRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class BulkJobRepository implements IBulkJobRepository, TenantAwareRepository<BulkJob> {
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Override
+    public void setTenantFilter(BulkJob job) {
+        job.setTenantId(securityContext.getTenantId());
+    }
+
+    @Override
+    public void persist(BulkJob job) {
+        job.setTenantId(securityContext.getTenantId());
+        getEntityManager().persist(job);
+    }
+
+    // Tenant scoped for the API; the worker methods below run without a caller and go by id alone
+    @Override
+    public Optional<BulkJob> findByIdOptional(Long id) {
+        return find("id = ?1 and tenantId = ?2", id, securityContext.getTenantId()).firstResultOptional();
+    }
+
+    // Conditional on QUEUED so only one claim succeeds; the attempt number it bumps to is the claim's fencing token
+    @Override
+    public boolean claim(Long id, LocalDateTime now) {
+        return update("status = ?1, attempts = attempts + 1, startedAt = coalesce(startedAt, ?2), updatedAt = ?2 "
+                        + "where id = ?3 and status = ?4",
+                BulkJobStatus.RUNNING, now, id, BulkJobStatus.QUEUED) == 1;
+    }
+
+    /*
+     * The writes below only land while the job is still RUNNING under the caller's attempt. Once the
+     * job has been requeued, or re-claimed by another worker, they match no row and return false.
+     */
+
+    @Override
+    public boolean heartbeat(Long id, int attempt, LocalDateTime now) {
+        return update("updatedAt = ?1 where id = ?2 and attempts = ?3 and status = ?4",
+                now, id, attempt, BulkJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    public boolean recordProgress(Long id, int attempt, long processed, long failed, String errorMessage, LocalDateTime now) {
+        return update("processedCount = processedCount + ?1, failedCount = failedCount + ?2, "
+                        + "errorMessage = coalesce(?3, errorMessage), updatedAt = ?4 "
+                        + "where id = ?5 and attempts = ?6 and status = ?7",
+                processed, failed, errorMessage, now, id, attempt, BulkJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    public boolean complete(Long id, int attempt, LocalDateTime now) {
+        return update("status = ?1, completedAt = ?2, updatedAt = ?2 where id = ?3 and attempts = ?4 and status = ?5",
+                BulkJobStatus.COMPLETED, now, id, attempt, BulkJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    public boolean fail(Long id, int attempt, String errorMessage, LocalDateTime now) {
+        return update("status = ?1, errorMessage = ?2, completedAt = ?3, updatedAt = ?3 "
+                        + "where id = ?4 and attempts = ?5 and status = ?6",
+                BulkJobStatus.FAILED, errorMessage, now, id, attempt, BulkJobStatus.RUNNING) == 1;
+    }
+
+    @Override
+    public List<Long> findQueuedIds(int limit) {
+        return getEntityManager()
+                .createQuery("select j.id from BulkJob j where j.status = ?1 order by j.id", Long.class)
+                .setParameter(1, BulkJobStatus.QUEUED)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * A RUNNING job whose heartbeat stopped belonged to a worker that died; hand it back to the queue.
+     * A live worker holds the job row locked for the whole of each chunk transaction, so this waits
+     * for that chunk and then sees its fresh heartbeat instead of stealing the job mid-chunk.
+     */
+    @Override
+    public int requeueStale(LocalDateTime heartbeatCutoff, LocalDateTime now) {
+        return update("status = ?1, updatedAt = ?2 where status = ?3 and updatedAt < ?4",
+                BulkJobStatus.QUEUED, now, BulkJobStatus.RUNNING, heartbeatCutoff);
+    }
+}
@@ -3,6 +3,8 @@ package repository;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import models.AuditLog;
 
+import java.util.stream.Stream;
+
 /**
  * Project: pay-stream
  * Module: repository
@@ -13,5 +15,5 @@ import models.AuditLog;
  * © 2025 justice.m. All rights reserved
  **/
 public interface IAuditLogRepository extends PanacheRepository<AuditLog> {
-
+    Stream<AuditLog> streamAll();
 }
@@ -0,0 +1,24 @@
+package repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import models.AuditOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: IAuditOutboxRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IAuditOutboxRepository extends PanacheRepository<AuditOutbox> {
+    List<AuditOutbox> lockByIds(Collection<Long> ids);
+    List<Long> findIdsOlderThan(LocalDateTime cutoff, long afterId, int limit);
+    long deleteByIds(Collection<Long> ids);
+    List<Long> deleteReturningIds(Collection<Long> ids);
+}
@@ -3,8 +3,10 @@ package repository;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import models.Bank;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -18,4 +20,7 @@ import java.util.Optional;
 public interface IBankRepository extends PanacheRepository<Bank> {
     Optional<Bank> findByBranchCode(String branchCode);
     List<Bank> findActiveBank();
+    List<Bank> findByBranchCodes(Collection<String> branchCodes);
+    Stream<Bank> streamAll();
+    Stream<Bank> streamActive();
 }
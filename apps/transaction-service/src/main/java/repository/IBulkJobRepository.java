@@ -0,0 +1,26 @@
+package repository;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import models.BulkJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: IBulkJobRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IBulkJobRepository extends PanacheRepository<BulkJob> {
+    boolean claim(Long id, LocalDateTime now);
+    boolean heartbeat(Long id, int attempt, LocalDateTime now);
+    boolean recordProgress(Long id, int attempt, long processed, long failed, String errorMessage, LocalDateTime now);
+    boolean complete(Long id, int attempt, LocalDateTime now);
+    boolean fail(Long id, int attempt, String errorMessage, LocalDateTime now);
+    List<Long> findQueuedIds(int limit);
+    int requeueStale(LocalDateTime heartbeatCutoff, LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package repository;
+
+import dto.AuditLogResponseDTO;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: IReactiveAuditLogRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IReactiveAuditLogRepository {
+    Multi<AuditLogResponseDTO> streamAll();
+}
@@ -0,0 +1,18 @@
+package repository;
+
+import dto.BankResponseDTO;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: IReactiveBankRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IReactiveBankRepository {
+    Multi<BankResponseDTO> streamAll();
+    Multi<BankResponseDTO> streamActive();
+}
@@ -0,0 +1,37 @@
+package repository;
+
+import dto.TransactionResponseDTO;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import models.TransactionStatus;
+import util.PageCursor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: IReactiveTransactionRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IReactiveTransactionRepository {
+    /**
+     * Non-blocking counterparts of {@link ITransactionRepository#streamByBatchId} / {@link ITransactionRepository#streamByStatus}:
+     * rows are read through a cursor as the subscriber requests them. The tenant is taken from the
+     * request when the method is called, not when the stream is subscribed to.
+     */
+    Multi<TransactionResponseDTO> streamByBatchId(String batchId);
+    Multi<TransactionResponseDTO> streamByStatus(TransactionStatus status);
+
+    /**
+     * Same filters, ordering and seek semantics as {@link ITransactionRepository#findPage}.
+     */
+    Uni<List<TransactionResponseDTO>> findPage(TransactionStatus status, String bankBranchCode, String batchId, String currency,
+                                               BigDecimal minAmount, BigDecimal maxAmount, LocalDateTime from, LocalDateTime to,
+                                               PageCursor after, int limit);
+}
@@ -1,11 +1,17 @@
 package repository;
 
+import dto.TransactionResponseDTO;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import models.Transaction;
 import models.TransactionStatus;
+import util.PageCursor;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -17,7 +23,43 @@ import java.util.Optional;
  * © 2025 justice.m. All rights reserved
  **/
 public interface ITransactionRepository extends PanacheRepository<Transaction> {
+    /**
+     * Entity reads join fetch the (lazy) bank, so loading n transactions is one select rather than 1 + n.
+     */
     List<Transaction> findByBatchId(String batchId);
     List<Transaction> findByStatus(TransactionStatus status);
 
+    /**
+     * Forward-only cursors over a batch / status, projected straight into response DTOs and fetched {@code pay-stream.streaming.fetch-size}
+     * rows at a time. Must be consumed and closed inside a transaction.
+     */
+    Stream<TransactionResponseDTO> streamByBatchId(String batchId);
+    Stream<TransactionResponseDTO> streamByStatus(TransactionStatus status);
+
+    /**
+     * Persists a large set of transactions using JDBC statement batching, flushing and
+     * clearing the persistence context every {@code pay-stream.bulk.batch-size} rows.
+     * {@code onPersisted} is called after each row has been assigned its id, before the
+     * next flush, so dependent rows (e.g. audit logs) land in the same JDBC batch.
+     */
+    void persistInBatches(List<Transaction> transactions, Consumer<Transaction> onPersisted);
+
+    /**
+     * A row changed by a set-based batch decision: its id, plus its currency for the transaction counters.
+     */
+    record DecidedTransaction(Long id, String currency) {}
+
+    List<DecidedTransaction> approvePendingInBatch(String batchId, String approverId, String notes, LocalDateTime approvedAt);
+    List<DecidedTransaction> rejectPendingInBatch(String batchId, String rejecterId, String reason, LocalDateTime rejectedAt);
+    List<Transaction> findApprovedInBatch(String batchId, String approverId, LocalDateTime approvedAt);
+    List<Transaction> findRejectedInBatch(String batchId, String rejecterId, LocalDateTime rejectedAt);
+    long countPendingInBatch(String batchId);
+
+    /**
+     * Seek-paginated listing ordered by (createdAt, id) descending. Only non-null filters are
+     * applied; {@code after} is the last row of the previous page, or null for the first page.
+     */
+    List<TransactionResponseDTO> findPage(TransactionStatus status, String bankBranchCode, String batchId, String currency,
+                                          BigDecimal minAmount, BigDecimal maxAmount, LocalDateTime from, LocalDateTime to,
+                                          PageCursor after, int limit);
 }
@@ -0,0 +1,51 @@
+package repository;
+
+import dto.AuditLogResponseDTO;
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import util.SecurityContext;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: ReactiveAuditLogRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class ReactiveAuditLogRepository implements IReactiveAuditLogRepository {
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @ConfigProperty(name = "pay-stream.streaming.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
+    @Override
+    public Multi<AuditLogResponseDTO> streamAll() {
+        return ReactiveCursor.stream(pool, """
+                                select id, entity_type, entity_id, action, user_id, timestamp, details
+                                  from audit_logs
+                                 where tenant_id = $1
+                                 order by id""",
+                        Tuple.of(securityContext.getTenantId()),
+                        streamFetchSize)
+                .map(ReactiveAuditLogRepository::toResponse);
+    }
+
+    private static AuditLogResponseDTO toResponse(Row row) {
+        return new AuditLogResponseDTO(row.getLong("id"), row.getString("entity_type"), row.getLong("entity_id"),
+                row.getString("action"), row.getString("user_id"), row.getLocalDateTime("timestamp"),
+                row.getString("details"));
+    }
+}
@@ -0,0 +1,62 @@
+package repository;
+
+import dto.BankResponseDTO;
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import util.SecurityContext;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: ReactiveBankRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class ReactiveBankRepository implements IReactiveBankRepository {
+
+    // Reads go straight to the database; the second-level cache only serves the blocking path
+    private static final String SELECT_BANKS = """
+            select id, name, branch_code, address, contact_phone, contact_email, is_active
+              from banks""";
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @ConfigProperty(name = "pay-stream.streaming.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
+    @Override
+    public Multi<BankResponseDTO> streamAll() {
+        return ReactiveCursor.stream(pool,
+                        SELECT_BANKS + " where tenant_id = $1 order by id",
+                        Tuple.of(securityContext.getTenantId()),
+                        streamFetchSize)
+                .map(ReactiveBankRepository::toResponse);
+    }
+
+    @Override
+    public Multi<BankResponseDTO> streamActive() {
+        return ReactiveCursor.stream(pool,
+                        SELECT_BANKS + " where is_active = true and tenant_id = $1 order by id",
+                        Tuple.of(securityContext.getTenantId()),
+                        streamFetchSize)
+                .map(ReactiveBankRepository::toResponse);
+    }
+
+    private static BankResponseDTO toResponse(Row row) {
+        return new BankResponseDTO(row.getLong("id"), row.getString("name"), row.getString("branch_code"),
+                row.getString("address"), row.getString("contact_phone"), row.getString("contact_email"),
+                row.getBoolean("is_active"));
+    }
+}
@@ -0,0 +1,37 @@
+package repository;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: ReactiveCursor
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+final class ReactiveCursor {
+
+    private ReactiveCursor() {
+    }
+
+    /**
+     * Streams the rows of {@code sql} through a server-side cursor, {@code fetchSize} rows per round
+     * trip, pulling the next batch only as the subscriber asks for more. Postgres cursors live inside
+     * a transaction, so one is opened on a dedicated connection and rolled back (the query only reads)
+     * when the stream completes, fails or is cancelled by the client going away.
+     */
+    static Multi<Row> stream(Pool pool, String sql, Tuple params, int fetchSize) {
+        return pool.getConnection().toMulti().onItem().transformToMultiAndConcatenate(connection ->
+                connection.begin().toMulti().onItem().transformToMultiAndConcatenate(transaction ->
+                                connection.prepare(sql).toMulti()
+                                        .onItem().transformToMultiAndConcatenate(statement ->
+                                                statement.createStream(fetchSize, params).toMulti())
+                                        .onTermination().call(transaction::rollback))
+                        .onTermination().call(connection::close));
+    }
+}
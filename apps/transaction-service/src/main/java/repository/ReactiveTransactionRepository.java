@@ -0,0 +1,139 @@
+package repository;
+
+import dto.TransactionResponseDTO;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import models.TransactionStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import util.PageCursor;
+import util.SecurityContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: ReactiveTransactionRepository
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class ReactiveTransactionRepository implements IReactiveTransactionRepository {
+
+    // The SQL twin of TransactionRepository's RESPONSE_PROJECTION; keep the two select lists in step
+    private static final String RESPONSE_PROJECTION = """
+            select t.id, t.account_name, t.account_number,
+                   b.id as bank_id, b.name as bank_name, b.branch_code as bank_branch_code, b.address as bank_address,
+                   b.contact_phone as bank_contact_phone, b.contact_email as bank_contact_email, b.is_active as bank_active,
+                   t.currency, t.amount, t.exchange_rate,
+                   t.status, t.batch_id, t.created_by, t.approved_by, t.rejected_by, t.approval_notes, t.rejection_reason,
+                   t.created_at, t.approved_at, t.rejected_at, t.updated_at
+              from transactions t join banks b on b.id = t.bank_id""";
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @ConfigProperty(name = "pay-stream.streaming.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
+    @Override
+    public Multi<TransactionResponseDTO> streamByBatchId(String batchId) {
+        return ReactiveCursor.stream(pool,
+                        RESPONSE_PROJECTION + " where t.tenant_id = $1 and t.batch_id = $2 order by t.id",
+                        Tuple.of(securityContext.getTenantId(), batchId),
+                        streamFetchSize)
+                .map(ReactiveTransactionRepository::toResponse);
+    }
+
+    @Override
+    public Multi<TransactionResponseDTO> streamByStatus(TransactionStatus status) {
+        return ReactiveCursor.stream(pool,
+                        RESPONSE_PROJECTION + " where t.tenant_id = $1 and t.status = $2 order by t.id",
+                        Tuple.of(securityContext.getTenantId(), status.name()),
+                        streamFetchSize)
+                .map(ReactiveTransactionRepository::toResponse);
+    }
+
+    @Override
+    public Uni<List<TransactionResponseDTO>> findPage(TransactionStatus status, String bankBranchCode, String batchId, String currency,
+                                                      BigDecimal minAmount, BigDecimal maxAmount, LocalDateTime from, LocalDateTime to,
+                                                      PageCursor after, int limit) {
+        StringBuilder query = new StringBuilder(RESPONSE_PROJECTION).append(" where t.tenant_id = $1");
+        Tuple params = Tuple.of(securityContext.getTenantId());
+
+        if (status != null) {
+            params.addString(status.name());
+            query.append(" and t.status = $").append(params.size());
+        }
+        if (bankBranchCode != null) {
+            params.addString(bankBranchCode);
+            query.append(" and b.branch_code = $").append(params.size());
+        }
+        if (batchId != null) {
+            params.addString(batchId);
+            query.append(" and t.batch_id = $").append(params.size());
+        }
+        if (currency != null) {
+            params.addString(currency);
+            query.append(" and t.currency = $").append(params.size());
+        }
+        if (minAmount != null) {
+            params.addValue(minAmount);
+            query.append(" and t.amount >= $").append(params.size());
+        }
+        if (maxAmount != null) {
+            params.addValue(maxAmount);
+            query.append(" and t.amount <= $").append(params.size());
+        }
+        if (from != null) {
+            params.addLocalDateTime(from);
+            query.append(" and t.created_at >= $").append(params.size());
+        }
+        if (to != null) {
+            params.addLocalDateTime(to);
+            query.append(" and t.created_at < $").append(params.size());
+        }
+        // Same seek (and partition-pruning bound) as TransactionRepository.findPage
+        if (after != null) {
+            params.addLocalDateTime(after.createdAt()).addLong(after.id());
+            int createdAt = params.size() - 1;
+            int id = params.size();
+            query.append(" and t.created_at <= $").append(createdAt)
+                    .append(" and (t.created_at, t.id) < ($").append(createdAt).append(", $").append(id).append(')');
+        }
+        params.addInteger(limit);
+        query.append(" order by t.created_at desc, t.id desc limit $").append(params.size());
+
+        return pool.preparedQuery(query.toString())
+                .execute(params)
+                .map(rows -> StreamSupport.stream(rows.spliterator(), false)
+                        .map(ReactiveTransactionRepository::toResponse)
+                        .toList());
+    }
+
+    private static TransactionResponseDTO toResponse(Row row) {
+        return new TransactionResponseDTO(
+                row.getLong("id"), row.getString("account_name"), row.getString("account_number"),
+                row.getLong("bank_id"), row.getString("bank_name"), row.getString("bank_branch_code"), row.getString("bank_address"),
+                row.getString("bank_contact_phone"), row.getString("bank_contact_email"), row.getBoolean("bank_active"),
+                row.getString("currency"), row.getBigDecimal("amount"), row.getBigDecimal("exchange_rate"),
+                TransactionStatus.valueOf(row.getString("status")), row.getString("batch_id"), row.getString("created_by"),
+                row.getString("approved_by"), row.getString("rejected_by"), row.getString("approval_notes"),
+                row.getString("rejection_reason"),
+                row.getLocalDateTime("created_at"), row.getLocalDateTime("approved_at"), row.getLocalDateTime("rejected_at"),
+                row.getLocalDateTime("updated_at"));
+    }
+}
@@ -1,15 +1,26 @@
 package repository;
 
+import dto.TransactionResponseDTO;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import models.Transaction;
 import models.TransactionStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import util.PageCursor;
 import util.SecurityContext;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -24,12 +35,33 @@ import java.util.Optional;
 @ApplicationScoped
 public class TransactionRepository implements PanacheRepository<Transaction>, ITransactionRepository, TenantAwareRepository<Transaction> {
 
+    // Exactly the columns TransactionResponseDTO needs, bank included, in its projection constructor's
+    // order. Rows come back as plain DTOs: nothing enters the persistence context, so there are no
+    // managed entities or dirty-checking snapshots on the read path
+    private static final String RESPONSE_PROJECTION = """
+            select new dto.TransactionResponseDTO(
+                   t.id, t.accountName, t.accountNumber,
+                   b.id, b.name, b.branchCode, b.address, b.contactPhone, b.contactEmail, b.active,
+                   t.money.currency, t.money.amount, t.money.exchangeRate,
+                   t.status, t.batchId, t.createdBy, t.approvedBy, t.rejectedBy, t.approvalNotes, t.rejectionReason,
+                   t.createdAt, t.approvedAt, t.rejectedAt, t.updatedAt)
+              from Transaction t join t.bank b""";
+
+    // Fetch plan for entity reads whose results are rendered with their bank: one select, no follow-up per bank
+    private static final String WITH_BANK = "from Transaction t join fetch t.bank where t.tenantId = ?1";
+
     @Inject
     SecurityContext securityContext;
 
     @Inject
     EntityManager entityManager;
 
+    @ConfigProperty(name = "pay-stream.bulk.batch-size", defaultValue = "50")
+    int batchSize;
+
+    @ConfigProperty(name = "pay-stream.streaming.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
     @Override
     public void setTenantFilter(Transaction transaction) {
         transaction.setTenantId(securityContext.getTenantId());
@@ -43,18 +75,177 @@ public class TransactionRepository implements PanacheRepository<Transaction>, IT
 
     @Override
     public Optional<Transaction> findByIdOptional(Long id) {
-        return find("id = ?1 and tenantId = ?2", id, securityContext.getTenantId()).firstResultOptional();
+        return find(WITH_BANK + " and t.id = ?2", securityContext.getTenantId(), id).firstResultOptional();
     }
     @Override
     public List<Transaction> findByBatchId(String batchId) {
-        return list("tenantId = ?1 and batchId = ?2", securityContext.getTenantId(), batchId);
+        return list(WITH_BANK + " and t.batchId = ?2", securityContext.getTenantId(), batchId);
     }
     @Override
     public List<Transaction> findByStatus(TransactionStatus status) {
-        return list("status", status);
+        return list(WITH_BANK + " and t.status = ?2", securityContext.getTenantId(), status);
+    }
+    @Override
+    public Stream<TransactionResponseDTO> streamByBatchId(String batchId) {
+        return entityManager.createQuery(RESPONSE_PROJECTION + " where t.tenantId = ?1 and t.batchId = ?2 order by t.id",
+                        TransactionResponseDTO.class)
+                .setParameter(1, securityContext.getTenantId())
+                .setParameter(2, batchId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<TransactionResponseDTO> streamByStatus(TransactionStatus status) {
+        return entityManager.createQuery(RESPONSE_PROJECTION + " where t.tenantId = ?1 and t.status = ?2 order by t.id",
+                        TransactionResponseDTO.class)
+                .setParameter(1, securityContext.getTenantId())
+                .setParameter(2, status)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .getResultStream();
     }
+
     @Override
     public List<Transaction> listAll() {
-        return list("tenantId", securityContext.getTenantId());
+        return list(WITH_BANK, securityContext.getTenantId());
+    }
+
+    @Override
+    public void persistInBatches(List<Transaction> transactions, Consumer<Transaction> onPersisted) {
+        String tenantId = securityContext.getTenantId();
+        int pending = 0;
+        for (Transaction transaction : transactions) {
+            transaction.setTenantId(tenantId);
+            entityManager.persist(transaction);
+            onPersisted.accept(transaction);
+
+            // Push the current JDBC batch and drop the managed copies so the
+            // persistence context (and its dirty-checking snapshots) stays small
+            if (++pending >= batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    // Separation of duties is enforced in the WHERE clause: the approver's own rows are left pending
+    @Override
+    public List<DecidedTransaction> approvePendingInBatch(String batchId, String approverId, String notes, LocalDateTime approvedAt) {
+        return executeReturningDecided("""
+                update transactions
+                   set status = 'APPROVED', approved_by = ?1, approved_at = ?2, approval_notes = ?3, updated_at = ?2
+                 where tenant_id = ?4 and batch_id = ?5 and status = 'PENDING_APPROVAL' and created_by <> ?1
+                returning id, currency
+                """, approverId, approvedAt, notes, securityContext.getTenantId(), batchId);
+    }
+
+    @Override
+    public List<DecidedTransaction> rejectPendingInBatch(String batchId, String rejecterId, String reason, LocalDateTime rejectedAt) {
+        return executeReturningDecided("""
+                update transactions
+                   set status = 'REJECTED', rejected_by = ?1, rejected_at = ?2, rejection_reason = ?3, updated_at = ?2
+                 where tenant_id = ?4 and batch_id = ?5 and status = 'PENDING_APPROVAL'
+                returning id, currency
+                """, rejecterId, rejectedAt, reason, securityContext.getTenantId(), batchId);
+    }
+
+    // The decision timestamp identifies the rows touched by one batch update, which keeps the
+    // reload clear of Postgres' bind-parameter limit that an IN list of ids would hit
+    @Override
+    public List<Transaction> findApprovedInBatch(String batchId, String approverId, LocalDateTime approvedAt) {
+        return find(WITH_BANK + " and t.batchId = ?2 and t.status = ?3 "
+                        + "and t.approvedBy = ?4 and t.approvedAt = ?5 order by t.id",
+                securityContext.getTenantId(), batchId, TransactionStatus.APPROVED, approverId, approvedAt)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .list();
+    }
+
+    @Override
+    public List<Transaction> findRejectedInBatch(String batchId, String rejecterId, LocalDateTime rejectedAt) {
+        return find(WITH_BANK + " and t.batchId = ?2 and t.status = ?3 "
+                        + "and t.rejectedBy = ?4 and t.rejectedAt = ?5 order by t.id",
+                securityContext.getTenantId(), batchId, TransactionStatus.REJECTED, rejecterId, rejectedAt)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .list();
+    }
+
+    @Override
+    public long countPendingInBatch(String batchId) {
+        return count("tenantId = ?1 and batchId = ?2 and status = ?3",
+                securityContext.getTenantId(), batchId, TransactionStatus.PENDING_APPROVAL);
+    }
+
+    @Override
+    public List<TransactionResponseDTO> findPage(TransactionStatus status, String bankBranchCode, String batchId, String currency,
+                                                 BigDecimal minAmount, BigDecimal maxAmount, LocalDateTime from, LocalDateTime to,
+                                                 PageCursor after, int limit) {
+        StringBuilder query = new StringBuilder(RESPONSE_PROJECTION).append(" where t.tenantId = :tenantId");
+        Parameters params = Parameters.with("tenantId", securityContext.getTenantId());
+
+        if (status != null) {
+            query.append(" and t.status = :status");
+            params.and("status", status);
+        }
+        if (bankBranchCode != null) {
+            query.append(" and b.branchCode = :branchCode");
+            params.and("branchCode", bankBranchCode);
+        }
+        if (batchId != null) {
+            query.append(" and t.batchId = :batchId");
+            params.and("batchId", batchId);
+        }
+        if (currency != null) {
+            query.append(" and t.money.currency = :currency");
+            params.and("currency", currency);
+        }
+        if (minAmount != null) {
+            query.append(" and t.money.amount >= :minAmount");
+            params.and("minAmount", minAmount);
+        }
+        if (maxAmount != null) {
+            query.append(" and t.money.amount <= :maxAmount");
+            params.and("maxAmount", maxAmount);
+        }
+        if (from != null) {
+            query.append(" and t.createdAt >= :from");
+            params.and("from", from);
+        }
+        if (to != null) {
+            query.append(" and t.createdAt < :to");
+            params.and("to", to);
+        }
+        // Row-value comparison lets Postgres seek straight into the (created_at, id) index order;
+        // the plain createdAt bound is redundant with it but lets Postgres prune partitions
+        if (after != null) {
+            query.append(" and t.createdAt <= :afterCreatedAt and (t.createdAt, t.id) < (:afterCreatedAt, :afterId)");
+            params.and("afterCreatedAt", after.createdAt()).and("afterId", after.id());
+        }
+        query.append(" order by t.createdAt desc, t.id desc");
+
+        TypedQuery<TransactionResponseDTO> page = entityManager.createQuery(query.toString(), TransactionResponseDTO.class)
+                .setMaxResults(limit);
+        params.map().forEach(page::setParameter);
+        return page.getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DecidedTransaction> executeReturningDecided(String sql, Object... params) {
+        NativeQuery<Object> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        // Lets Hibernate know the statement writes to transactions, so it flushes and invalidates accordingly
+        query.addSynchronizedEntityClass(Transaction.class);
+        for (int i = 0; i < params.length; i++) {
+            query.setParameter(i + 1, params[i]);
+        }
+        return query.getResultList().stream()
+                .map(row -> {
+                    Object[] columns = (Object[]) row;
+                    return new DecidedTransaction(((Number) columns[0]).longValue(), (String) columns[1]);
+                })
+                .toList();
     }
 }
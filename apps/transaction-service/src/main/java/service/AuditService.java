@@ -1,13 +1,22 @@
 package service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import models.AuditLog;
+import models.AuditOutbox;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import repository.AuditLogRepository;
+import repository.IAuditOutboxRepository;
+import util.SecurityContext;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -27,28 +36,131 @@ public class AuditService implements IAuditService{
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    IAuditOutboxRepository auditOutboxRepository;
+
+    @Inject
+    AuditWriteBehindPipeline writeBehindPipeline;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Inject
+    EntityManager entityManager;
+
+    // The same size quarkus.hibernate-orm.jdbc.statement-batch-size is set to
+    @ConfigProperty(name = "pay-stream.bulk.batch-size", defaultValue = "50")
+    int batchSize;
+
+    @WithSpan
     @Override
     @Transactional
     public void logEvent(String entityType, Long entityId, String action, String userId, Object details) {
+        if (writeBehindPipeline.isEnabled()) {
+            writeBehind(securityContext.getTenantId(), entityType, entityId, action, userId, serializeDetails(details));
+            return;
+        }
+
         AuditLog log = new AuditLog();
         log.setEntityType(entityType);
         log.setEntityId(entityId);
         log.setAction(action);
         log.setUserId(userId);
+        log.setDetails(serializeDetails(details));
+
+        auditLogRepository.persist(log);
+    }
+
+    /**
+     * Records the same event for many entities. Details are serialized once and the rows go out in
+     * JDBC batches of the configured statement batch size, which the driver rewrites into multi-row
+     * inserts. Each batch is flushed and then detached, so the persistence context stays small
+     * however many ids there are, while the caller's own entities stay managed. Write-behind mode
+     * batches its outbox rows the same way.
+     */
+    @WithSpan
+    @Override
+    @Transactional
+    public void logEvents(String entityType, List<Long> entityIds, String action, String userId, Object details) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        String tenantId = securityContext.getTenantId();
+        String serializedDetails = serializeDetails(details);
+        if (writeBehindPipeline.isEnabled()) {
+            List<AuditOutbox> pending = new ArrayList<>(Math.min(entityIds.size(), batchSize));
+            for (Long entityId : entityIds) {
+                pending.add(writeBehind(tenantId, entityType, entityId, action, userId, serializedDetails));
+                if (pending.size() >= batchSize) {
+                    flushAndDetach(pending);
+                }
+            }
+            flushAndDetach(pending);
+            return;
+        }
+
+        List<AuditLog> pending = new ArrayList<>(Math.min(entityIds.size(), batchSize));
+        for (Long entityId : entityIds) {
+            AuditLog log = new AuditLog(entityType, entityId, action, userId, serializedDetails);
+            auditLogRepository.persist(log);
+            pending.add(log);
+            if (pending.size() >= batchSize) {
+                flushAndDetach(pending);
+            }
+        }
+        flushAndDetach(pending);
+    }
+
+    // Detaching before the flush would cancel the inserts, so flush first
+    private void flushAndDetach(List<?> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        rows.forEach(entityManager::detach);
+        rows.clear();
+    }
+
+    // Only the outbox row is written here; the drainer copies it into audit_logs after commit
+    private AuditOutbox writeBehind(String tenantId, String entityType, Long entityId, String action, String userId,
+                                    String serializedDetails) {
+        AuditOutbox entry = new AuditOutbox(tenantId, entityType, entityId, action, userId, serializedDetails);
+        writeBehindPipeline.append(entry);
+        return entry;
+    }
 
+    // Package-private for AuditDetailsSerializationBenchmark
+    String serializeDetails(Object details) {
+        return serializeDetails(objectMapper, details);
+    }
+
+    static String serializeDetails(ObjectMapper objectMapper, Object details) {
         try {
             if (details != null) {
-                log.setDetails(objectMapper.writeValueAsString(details));
+                return objectMapper.writeValueAsString(details);
             }
         } catch (Exception e) {
-            log.setDetails("Failed to serialize details: " + e.getMessage());
+            return "Failed to serialize details: " + e.getMessage();
         }
-
-        auditLogRepository.persist(log);
+        return null;
     }
 
+    @WithSpan
     @Override
     public List<AuditLog> getAllAuditLogs() {
         return auditLogRepository.listAll();
     }
+
+    @WithSpan
+    @Override
+    @Transactional
+    public void forEachAuditLog(Consumer<AuditLog> action) {
+        try (Stream<AuditLog> auditLogs = auditLogRepository.streamAll()) {
+            auditLogs.forEach(auditLog -> {
+                action.accept(auditLog);
+                // Keep the persistence context from growing with the result set
+                auditLogRepository.getEntityManager().detach(auditLog);
+            });
+        }
+    }
 }
@@ -0,0 +1,324 @@
+package service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import models.AuditOutbox;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import repository.IAuditOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: AuditWriteBehindPipeline
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class AuditWriteBehindPipeline implements MeterBinder {
+
+    private static final Logger LOG = Logger.getLogger(AuditWriteBehindPipeline.class);
+    private static final String PENDING_ENTRIES_KEY = AuditWriteBehindPipeline.class.getName() + ".pendingEntries";
+    private static final String FLUSH = "paystream.audit.flush";
+
+    @Inject
+    IAuditOutboxRepository auditOutboxRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @ConfigProperty(name = "pay-stream.audit.mode", defaultValue = "sync")
+    String mode;
+
+    @ConfigProperty(name = "pay-stream.audit.queue-capacity", defaultValue = "10000")
+    int queueCapacity;
+
+    @ConfigProperty(name = "pay-stream.audit.flush-size", defaultValue = "500")
+    int flushSize;
+
+    @ConfigProperty(name = "pay-stream.audit.flush-interval", defaultValue = "200ms")
+    Duration flushInterval;
+
+    @ConfigProperty(name = "pay-stream.audit.sweep-interval", defaultValue = "30s")
+    Duration sweepInterval;
+
+    // Queue slots are reserved while the business transaction is still open, so an entry accepted
+    // for the queue always has room once that transaction commits
+    private Semaphore slots;
+    private BlockingQueue<AuditOutbox> queue;
+    private Thread drainer;
+    private volatile boolean running;
+    private Timer flushTimer;
+
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    void onStart(@Observes StartupEvent event) {
+        flushTimer = Timer.builder(FLUSH)
+                .description("Time the drainer spends writing one group of audit events")
+                .publishPercentileHistogram()
+                .register(registry);
+        if (!isEnabled()) {
+            return;
+        }
+        slots = new Semaphore(queueCapacity);
+        queue = new LinkedBlockingQueue<>();
+        running = true;
+        drainer = new Thread(this::drainLoop, "audit-write-behind");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    // The drainer finishes its current poll, then writes whatever is left in the queue before exiting
+    void onStop(@Observes ShutdownEvent event) {
+        if (drainer == null) {
+            return;
+        }
+        running = false;
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return "write-behind".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Must be called inside the business transaction. The entry is persisted to audit_outbox in
+     * that transaction, so a committed event survives a crash whatever happens to the queue: the
+     * outbox has only its primary key to maintain, which keeps the insert cheaper than one into
+     * the partitioned, indexed audit_logs. Once the transaction commits, the entry is also handed
+     * to the drainer, which writes it to audit_logs without reading it back. Without a free queue
+     * slot (or while stopping) it is left for the sweep instead; a rollback drops both.
+     */
+    @SuppressWarnings("unchecked")
+    public void append(AuditOutbox entry) {
+        auditOutboxRepository.persist(entry);
+        if (!running || !slots.tryAcquire()) {
+            overflowCount.incrementAndGet();
+            return;
+        }
+        List<AuditOutbox> pendingEntries = (List<AuditOutbox>) transactionSynchronizationRegistry.getResource(PENDING_ENTRIES_KEY);
+        if (pendingEntries == null) {
+            List<AuditOutbox> entries = new ArrayList<>();
+            transactionSynchronizationRegistry.putResource(PENDING_ENTRIES_KEY, entries);
+            transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == Status.STATUS_COMMITTED) {
+                        queue.addAll(entries);
+                    } else {
+                        slots.release(entries.size());
+                    }
+                }
+            });
+            pendingEntries = entries;
+        }
+        pendingEntries.add(entry);
+    }
+
+    private void drainLoop() {
+        List<AuditOutbox> group = new ArrayList<>(flushSize);
+        long nextSweep = 0;
+        while (running) {
+            try {
+                if (System.nanoTime() - nextSweep >= 0) {
+                    sweep();
+                    nextSweep = System.nanoTime() + sweepInterval.toNanos();
+                }
+
+                AuditOutbox first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, flushSize - 1);
+                slots.release(group.size());
+                flush(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                LOG.error("Audit write-behind drainer failed", e);
+            } finally {
+                group.clear();
+            }
+        }
+
+        // Entries still queued at shutdown are written now; anything missed is in the outbox for the next start
+        while (queue.drainTo(group, flushSize) > 0) {
+            flush(group);
+            group.clear();
+        }
+    }
+
+    /**
+     * One transaction per group: the group's outbox rows are deleted first and only the ones this
+     * drainer actually removed are inserted into audit_logs, so an entry the sweep (here or on
+     * another instance) already moved is never written twice. A group that fails is retried entry
+     * by entry; an entry that still fails keeps its outbox row for the sweep.
+     */
+    private void flush(List<AuditOutbox> entries) {
+        long start = System.nanoTime();
+        int written;
+        try {
+            written = QuarkusTransaction.requiringNew().call(() -> writeToAuditLog(entries));
+        } catch (RuntimeException e) {
+            written = 0;
+            for (AuditOutbox entry : entries) {
+                try {
+                    written += QuarkusTransaction.requiringNew().call(() -> writeToAuditLog(List.of(entry)));
+                } catch (RuntimeException entryFailure) {
+                    LOG.errorf(entryFailure, "Failed to write audit outbox entry %d, leaving it for the sweep", entry.id);
+                }
+            }
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        flushedCount.addAndGet(written);
+    }
+
+    private int writeToAuditLog(List<AuditOutbox> entries) {
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (AuditOutbox entry : entries) {
+            ids.add(entry.id);
+        }
+        Set<Long> claimed = new HashSet<>(auditOutboxRepository.deleteReturningIds(ids));
+        for (AuditOutbox entry : entries) {
+            if (claimed.contains(entry.id)) {
+                entityManager.persist(entry.toAuditLog());
+            }
+        }
+        entityManager.flush();
+        return claimed.size();
+    }
+
+    // Moves entries the queue never carried (overflow, a failed flush, or a crash before the drainer got to them)
+    private void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(sweepInterval);
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            long lastId = afterId;
+            ids = QuarkusTransaction.requiringNew()
+                    .call(() -> auditOutboxRepository.findIdsOlderThan(cutoff, lastId, flushSize));
+            if (!ids.isEmpty()) {
+                moveOutboxEntries(ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == flushSize && running);
+    }
+
+    private void moveOutboxEntries(List<Long> ids) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> moveToAuditLog(auditOutboxRepository.lockByIds(ids)));
+        } catch (RuntimeException e) {
+            for (Long id : ids) {
+                try {
+                    QuarkusTransaction.requiringNew().run(() -> moveToAuditLog(auditOutboxRepository.lockByIds(List.of(id))));
+                } catch (RuntimeException rowFailure) {
+                    LOG.errorf(rowFailure, "Failed to move audit outbox entry %d, leaving it for the next sweep", id);
+                }
+            }
+        }
+    }
+
+    private void moveToAuditLog(List<AuditOutbox> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (AuditOutbox entry : entries) {
+            entityManager.persist(entry.toAuditLog());
+            ids.add(entry.id);
+        }
+        entityManager.flush();
+        auditOutboxRepository.deleteByIds(ids);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("paystream.audit.queue.depth", this, AuditWriteBehindPipeline::getQueueDepth)
+                .description("Audit events waiting for the write-behind drainer")
+                .register(registry);
+        Gauge.builder("paystream.audit.queue.capacity", this, AuditWriteBehindPipeline::getQueueCapacity)
+                .register(registry);
+        FunctionCounter.builder("paystream.audit.queue.overflow", this, AuditWriteBehindPipeline::getOverflowCount)
+                .description("Audit events left to the outbox sweep because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("paystream.audit.flushed", this, AuditWriteBehindPipeline::getFlushedCount)
+                .register(registry);
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushTimer.count();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    public double getMeanFlushLatencyMillis() {
+        return flushTimer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    // Micrometer's max decays over its step window, so this is the slowest recent flush
+    public double getMaxFlushLatencyMillis() {
+        return flushTimer.max(TimeUnit.MILLISECONDS);
+    }
+}
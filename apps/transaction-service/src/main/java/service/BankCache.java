@@ -0,0 +1,130 @@
+package service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import models.Bank;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: BankCache
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class BankCache implements MeterBinder {
+
+    /*
+     * Sits in front of the Bank second-level cache region rather than replacing it. Ingest looks banks
+     * up by branch code, which the id-keyed region cannot answer without a query, and these entries
+     * expire a fixed time after they were loaded, which bounds how long an update made on another
+     * instance goes unseen. The region has only idle expiry and serves the by-id loads of a
+     * transaction's bank.
+     */
+
+    record BranchCodeKey(String tenantId, String branchCode) {}
+
+    record IdKey(String tenantId, Long id) {}
+
+    @ConfigProperty(name = "pay-stream.bank-cache.maximum-size", defaultValue = "1000")
+    long maximumSize;
+
+    @ConfigProperty(name = "pay-stream.bank-cache.expire-after-write", defaultValue = "10m")
+    Duration expireAfterWrite;
+
+    private Cache<BranchCodeKey, Bank> byBranchCode;
+    private Cache<IdKey, Bank> byId;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        byBranchCode = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    // Misses are not cached, so a bank created later is picked up on the next lookup
+    public Optional<Bank> getByBranchCode(String tenantId, String branchCode, Supplier<Optional<Bank>> loader) {
+        return get(byBranchCode, new BranchCodeKey(tenantId, branchCode), loader);
+    }
+
+    public Optional<Bank> getById(String tenantId, Long id, Supplier<Optional<Bank>> loader) {
+        return get(byId, new IdKey(tenantId, id), loader);
+    }
+
+    /**
+     * The loader runs a JDBC query, so it is called outside the cache: Caffeine's compute holds a
+     * synchronized bin lock, and blocking inside it would pin a virtual thread to its carrier.
+     * Two concurrent misses may both load, which is harmless. A load that overlaps an invalidation
+     * could hold the old row, so it is dropped again if one happened meanwhile.
+     */
+    private <K> Optional<Bank> get(Cache<K, Bank> cache, K key, Supplier<Optional<Bank>> loader) {
+        Bank cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = invalidations.get();
+        Optional<Bank> loaded = loader.get();
+        if (loaded.isPresent()) {
+            cache.put(key, loaded.get());
+            if (invalidations.get() != generation) {
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(String tenantId, Long id, String branchCode) {
+        invalidations.incrementAndGet();
+        if (id != null) {
+            byId.invalidate(new IdKey(tenantId, id));
+        }
+        if (branchCode != null) {
+            byBranchCode.invalidate(new BranchCodeKey(tenantId, branchCode));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byBranchCode, "bank-by-branch-code", Tags.empty());
+        CaffeineCacheMetrics.monitor(registry, byId, "bank-by-id", Tags.empty());
+    }
+
+    public CacheStats branchCodeStats() {
+        return byBranchCode.stats();
+    }
+
+    public CacheStats idStats() {
+        return byId.stats();
+    }
+
+    public long branchCodeSize() {
+        return byBranchCode.estimatedSize();
+    }
+
+    public long idSize() {
+        return byId.estimatedSize();
+    }
+}
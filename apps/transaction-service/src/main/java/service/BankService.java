@@ -1,14 +1,33 @@
 package service;
 
 import dto.BankRequestDTO;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import models.Bank;
 import repository.IBankRepository;
+import util.SecurityContext;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -28,7 +47,16 @@ public class BankService implements IBankService {
     @Inject
     IAuditService auditService;
 
+    @Inject
+    BankCache bankCache;
+
+    @Inject
+    SecurityContext securityContext;
 
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @WithSpan
     @Override
     @Transactional
     public Bank createBank(BankRequestDTO bankDTO, String userId) {
@@ -41,6 +69,7 @@ public class BankService implements IBankService {
         bank.setActive(bankDTO.isActive());
 
         bankRepository.persist(bank);
+        invalidateCache(bank.id, bank.getBranchCode());
 
         // Create audit log
         auditService.logEvent(
@@ -54,10 +83,12 @@ public class BankService implements IBankService {
         return bank;
     }
 
+    @WithSpan
     @Override
     @Transactional
     public Bank updateBank(Long id, BankRequestDTO bankDTO, String userId) {
-        Bank bank = getBank(id);
+        Bank bank = getManagedBank(id);
+        invalidateCache(bank.id, bank.getBranchCode());
 
         bank.setName(bankDTO.getName());
         bank.setBranchCode(bankDTO.getBranchCode());
@@ -65,6 +96,7 @@ public class BankService implements IBankService {
         bank.setContactPhone(bankDTO.getContactPhone());
         bank.setContactEmail(bankDTO.getContactEmail());
         bank.setActive(bankDTO.isActive());
+        invalidateCache(bank.id, bank.getBranchCode());
 
         // Create audit log
         auditService.logEvent(
@@ -78,11 +110,13 @@ public class BankService implements IBankService {
         return bank;
     }
 
+    @WithSpan
     @Override
     @Transactional
     public void deleteBank(Long id, String userId) {
-        Bank bank = getBank(id);
+        Bank bank = getManagedBank(id);
         bank.setActive(false);
+        invalidateCache(bank.id, bank.getBranchCode());
 
         // Create audit log
         auditService.logEvent(
@@ -96,23 +130,117 @@ public class BankService implements IBankService {
 
     @Override
     public Bank getBank(Long id) {
-        return bankRepository.findByIdOptional(id)
+        return bankCache.getById(securityContext.getTenantId(), id, () -> bankRepository.findByIdOptional(id))
                 .orElseThrow(() -> new NotFoundException("Bank not found with id: " + id));
     }
 
     @Override
     public Bank getBankByBranchCode(String branchCode) {
-        return bankRepository.findByBranchCode(branchCode)
+        return findBankByBranchCode(branchCode)
                 .orElseThrow(() -> new NotFoundException("Bank not found with branch code: " + branchCode));
     }
 
+    @Override
+    public Optional<Bank> findBankByBranchCode(String branchCode) {
+        return bankCache.getByBranchCode(securityContext.getTenantId(), branchCode,
+                () -> bankRepository.findByBranchCode(branchCode));
+    }
+
+    @WithSpan
     @Override
     public List<Bank> getAllBanks() {
         return bankRepository.listAll();
     }
 
+    @WithSpan
     @Override
     public List<Bank> getActiveBanks() {
         return bankRepository.findActiveBank();
     }
+
+    @WithSpan
+    @Override
+    @Transactional
+    public void forEachBank(boolean activeOnly, Consumer<Bank> action) {
+        try (Stream<Bank> banks = activeOnly ? bankRepository.streamActive() : bankRepository.streamAll()) {
+            banks.forEach(bank -> {
+                action.accept(bank);
+                // Keep the persistence context from growing with the result set
+                bankRepository.getEntityManager().detach(bank);
+            });
+        }
+    }
+
+    /**
+     * Loads every branch code in one query and checks each bank once. If any code is
+     * unknown or inactive, a single 400 is raised listing all of them.
+     */
+    @WithSpan
+    @Override
+    public Map<String, Bank> resolveActiveBanks(Collection<String> branchCodes) {
+        Set<String> distinctCodes = new TreeSet<>(branchCodes);
+
+        Map<String, Bank> banks = new HashMap<>();
+        for (Bank bank : bankRepository.findByBranchCodes(distinctCodes)) {
+            banks.put(bank.getBranchCode(), bank);
+        }
+
+        JsonArrayBuilder unknownCodes = Json.createArrayBuilder();
+        JsonArrayBuilder inactiveCodes = Json.createArrayBuilder();
+        boolean invalid = false;
+        for (String code : distinctCodes) {
+            Bank bank = banks.get(code);
+            if (bank == null) {
+                unknownCodes.add(code);
+                invalid = true;
+            } else if (!bank.isActive()) {
+                inactiveCodes.add(code);
+                invalid = true;
+            }
+        }
+
+        if (invalid) {
+            JsonObject error = Json.createObjectBuilder()
+                    .add("status", 400)
+                    .add("title", "Invalid Bank Branch Codes")
+                    .add("detail", "One or more bank branch codes are unknown or inactive")
+                    .add("unknownBranchCodes", unknownCodes)
+                    .add("inactiveBranchCodes", inactiveCodes)
+                    .build();
+
+            throw new BadRequestException(
+                    Response.status(Response.Status.BAD_REQUEST)
+                            .entity(error.toString())
+                            .type(MediaType.APPLICATION_JSON)
+                            .build()
+            );
+        }
+
+        return banks;
+    }
+
+    // Cached banks are detached, so writes always work on a freshly loaded instance
+    private Bank getManagedBank(Long id) {
+        return bankRepository.findByIdOptional(id)
+                .orElseThrow(() -> new NotFoundException("Bank not found with id: " + id));
+    }
+
+    // Evict now and again once the transaction completes, so a concurrent reader
+    // cannot re-populate the cache with the pre-commit row
+    private void invalidateCache(Long id, String branchCode) {
+        String tenantId = securityContext.getTenantId();
+        bankCache.invalidate(tenantId, id, branchCode);
+        if (transactionSynchronizationRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    bankCache.invalidate(tenantId, id, branchCode);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,304 @@
+package service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dto.ApprovalRequestDTO;
+import dto.BulkTransactionRequestDTO;
+import dto.RejectionRequestDTO;
+import dto.TransactionRequestDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import models.BulkJob;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import repository.IBulkJobRepository;
+import util.Principal;
+import util.SecurityContext;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: BulkJobExecutor
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class BulkJobExecutor implements MeterBinder {
+
+    private static final Logger LOG = Logger.getLogger(BulkJobExecutor.class);
+
+    @Inject
+    IBulkJobRepository bulkJobRepository;
+
+    @Inject
+    ITransactionService transactionService;
+
+    @Inject
+    IAuditService auditService;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "pay-stream.jobs.workers", defaultValue = "2")
+    int workers;
+
+    @ConfigProperty(name = "pay-stream.jobs.queue-capacity", defaultValue = "100")
+    int queueCapacity;
+
+    @ConfigProperty(name = "pay-stream.jobs.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    @ConfigProperty(name = "pay-stream.jobs.max-attempts", defaultValue = "3")
+    int maxAttempts;
+
+    @ConfigProperty(name = "pay-stream.jobs.stale-after", defaultValue = "5m")
+    Duration staleAfter;
+
+    private ThreadPoolExecutor executor;
+
+    // Jobs sitting in this instance's executor, so the poller doesn't queue them twice
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    void onStart(@Observes StartupEvent event) {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // A job cut off mid-chunk rolls that chunk back and is resumed from its last committed chunk
+    void onStop(@Observes ShutdownEvent event) {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("paystream.jobs.queued", this, jobs -> jobs.executor == null ? 0 : jobs.executor.getQueue().size())
+                .description("Jobs waiting for a worker in this instance")
+                .register(registry);
+        Gauge.builder("paystream.jobs.running", this, jobs -> jobs.executor == null ? 0 : jobs.executor.getActiveCount())
+                .register(registry);
+        Gauge.builder("paystream.jobs.workers", this, jobs -> jobs.workers)
+                .register(registry);
+    }
+
+    /**
+     * Hands a committed job to a worker. When the executor is full the job simply stays QUEUED
+     * in the database and the poller starts it once a worker frees up.
+     */
+    public void dispatch(Long jobId) {
+        if (executor == null || executor.isShutdown() || !inFlight.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(jobId);
+        }
+    }
+
+    // Picks up jobs left QUEUED by a full executor, and jobs whose worker died with the instance
+    @Scheduled(every = "{pay-stream.jobs.poll-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void poll() {
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = QuarkusTransaction.requiringNew()
+                .call(() -> bulkJobRepository.requeueStale(now.minus(staleAfter), now));
+        if (requeued > 0) {
+            LOG.warnf("Requeued %d bulk jobs with a stale heartbeat", requeued);
+        }
+
+        int freeSlots = executor.getQueue().remainingCapacity();
+        if (freeSlots == 0) {
+            return;
+        }
+        List<Long> queued = QuarkusTransaction.requiringNew()
+                .call(() -> bulkJobRepository.findQueuedIds(freeSlots));
+        queued.forEach(this::dispatch);
+    }
+
+    private void run(Long jobId) {
+        // Workers have no HTTP request; the repositories take the tenant from a request-scoped SecurityContext
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        BulkJob job = null;
+        try {
+            job = QuarkusTransaction.requiringNew().call(() -> claim(jobId));
+            if (job == null) {
+                return;
+            }
+            BulkJob claimed = job;
+            securityContext.setPrincipal(Principal.of(claimed.getTenantId(), claimed.getUserId(), claimed.getUserEmail()));
+
+            switch (claimed.getJobType()) {
+                case BULK_CREATE -> runBulkCreate(claimed);
+                case BATCH_APPROVE -> runBatchDecision(claimed, () -> transactionService.approveBatch(
+                        claimed.getBatchId(), readPayload(claimed, ApprovalRequestDTO.class), claimed.getUserId()));
+                case BATCH_REJECT -> runBatchDecision(claimed, () -> transactionService.rejectBatch(
+                        claimed.getBatchId(), readPayload(claimed, RejectionRequestDTO.class), claimed.getUserId()));
+            }
+        } catch (ClaimLostException e) {
+            LOG.warnf("Bulk job %d was requeued from under attempt %d; leaving it to its new owner", jobId, e.attempt);
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Bulk job %d failed", jobId);
+            if (job != null) {
+                int attempt = job.getAttempts();
+                QuarkusTransaction.requiringNew().run(() -> bulkJobRepository.fail(jobId, attempt, e.getMessage(), LocalDateTime.now()));
+            }
+        } finally {
+            requestContext.terminate();
+            inFlight.remove(jobId);
+        }
+    }
+
+    // Returns null when another worker got there first or the job has used up its attempts
+    private BulkJob claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!bulkJobRepository.claim(jobId, now)) {
+            return null;
+        }
+        BulkJob job = bulkJobRepository.findById(jobId);
+        if (job.getAttempts() > maxAttempts) {
+            bulkJobRepository.fail(jobId, job.getAttempts(), "Gave up after " + maxAttempts + " attempts", now);
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * Each chunk transaction starts with a fenced heartbeat, which both proves this worker still owns
+     * the job and keeps the job row locked until the chunk commits. A worker that was too slow and
+     * lost the job to another instance stops before appending anything, so no chunk is created twice.
+     */
+    private void runBulkCreate(BulkJob job) {
+        List<TransactionRequestDTO> requests = readPayload(job, BulkTransactionRequestDTO.class).getTransactions();
+        int attempt = job.getAttempts();
+
+        // Progress is committed with each chunk, so a resumed job starts right after the last one
+        int from = (int) (job.getProcessedCount() + job.getFailedCount());
+        while (from < requests.size() && !Thread.currentThread().isInterrupted()) {
+            List<TransactionRequestDTO> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            try {
+                QuarkusTransaction.requiringNew().run(() -> {
+                    requireClaim(bulkJobRepository.heartbeat(job.id, attempt, LocalDateTime.now()), attempt);
+                    transactionService.appendToBatch(job.getBatchId(), chunk, job.getUserId());
+                    requireClaim(bulkJobRepository.recordProgress(job.id, attempt, chunk.size(), 0, null, LocalDateTime.now()), attempt);
+                });
+            } catch (ClaimLostException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                LOG.errorf(e, "Bulk job %d failed to create rows %d-%d", job.id, from, from + chunk.size() - 1);
+                QuarkusTransaction.requiringNew().run(() -> requireClaim(bulkJobRepository.recordProgress(
+                        job.id, attempt, 0, chunk.size(), e.getMessage(), LocalDateTime.now()), attempt));
+            }
+            from += chunk.size();
+        }
+        if (from < requests.size()) {
+            // Interrupted by shutdown; the heartbeat goes stale and the job is resumed later
+            return;
+        }
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            requireClaim(bulkJobRepository.heartbeat(job.id, attempt, LocalDateTime.now()), attempt);
+            BulkJob finished = bulkJobRepository.findById(job.id);
+            long created = finished.getProcessedCount();
+            auditService.logEvent(
+                    "TransactionBatch",
+                    null,
+                    "CREATE",
+                    job.getUserId(),
+                    new Object() {
+                        public final String batchIdentifier = job.getBatchId();
+                        public final long count = created;
+                    }
+            );
+            requireClaim(bulkJobRepository.complete(job.id, attempt, LocalDateTime.now()), attempt);
+        });
+    }
+
+    /**
+     * The decision is one set-based UPDATE, so the job is either fully done or not at all. The fenced
+     * heartbeat runs first and holds the job row locked for as long as that UPDATE takes, so the stale
+     * sweep cannot requeue the job while it is still running; by the time the lock is released the job
+     * is COMPLETED.
+     */
+    private void runBatchDecision(BulkJob job, BatchDecision decision) {
+        int attempt = job.getAttempts();
+        QuarkusTransaction.requiringNew().run(() -> {
+            requireClaim(bulkJobRepository.heartbeat(job.id, attempt, LocalDateTime.now()), attempt);
+            int decided = decision.apply();
+            LocalDateTime now = LocalDateTime.now();
+            requireClaim(bulkJobRepository.recordProgress(job.id, attempt, decided, 0, null, now), attempt);
+            requireClaim(bulkJobRepository.complete(job.id, attempt, now), attempt);
+        });
+    }
+
+    // Rolls back the surrounding chunk transaction when the job no longer belongs to this attempt
+    private static void requireClaim(boolean owned, int attempt) {
+        if (!owned) {
+            throw new ClaimLostException(attempt);
+        }
+    }
+
+    private <T> T readPayload(BulkJob job, Class<T> type) {
+        try {
+            return objectMapper.readValue(job.getPayload(), type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable payload for bulk job " + job.id, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchDecision {
+        int apply();
+    }
+
+    private static class ClaimLostException extends RuntimeException {
+        private final int attempt;
+
+        ClaimLostException(int attempt) {
+            super("Bulk job claim for attempt " + attempt + " was lost", null, false, false);
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dto.ApprovalRequestDTO;
+import dto.BulkTransactionRequestDTO;
+import dto.RejectionRequestDTO;
+import dto.TransactionRequestDTO;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotFoundException;
+import models.BulkJob;
+import models.BulkJobType;
+import repository.IBulkJobRepository;
+import util.SecurityContext;
+
+import java.util.UUID;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: BulkJobService
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class BulkJobService implements IBulkJobService {
+
+    @Inject
+    IBulkJobRepository bulkJobRepository;
+
+    @Inject
+    ITransactionService transactionService;
+
+    @Inject
+    IBankService bankService;
+
+    @Inject
+    BulkJobExecutor bulkJobExecutor;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    TransactionMetrics metrics;
+
+    @WithSpan
+    @Override
+    public BulkJob submitBulkCreate(BulkTransactionRequestDTO requestDTO, String userId) {
+        // Same up-front bank check as the synchronous path, so bad codes are still a 400 and not a failed job
+        bankService.resolveActiveBanks(requestDTO.getTransactions().stream()
+                .map(TransactionRequestDTO::getBankBranchCode)
+                .toList());
+
+        metrics.recordBatchSize("create", requestDTO.getTransactions().size());
+        return submit(BulkJobType.BULK_CREATE, UUID.randomUUID().toString(), userId,
+                requestDTO, requestDTO.getTransactions().size());
+    }
+
+    @WithSpan
+    @Override
+    public BulkJob submitBatchApprove(@SpanAttribute("batch.id") String batchId, ApprovalRequestDTO approvalDTO, String approverId) {
+        return submit(BulkJobType.BATCH_APPROVE, batchId, approverId, approvalDTO, pendingCount(batchId));
+    }
+
+    @WithSpan
+    @Override
+    public BulkJob submitBatchReject(@SpanAttribute("batch.id") String batchId, RejectionRequestDTO rejectionDTO, String rejecterId) {
+        return submit(BulkJobType.BATCH_REJECT, batchId, rejecterId, rejectionDTO, pendingCount(batchId));
+    }
+
+    @WithSpan
+    @Override
+    public BulkJob getJob(Long id) {
+        return bulkJobRepository.findByIdOptional(id)
+                .orElseThrow(() -> new NotFoundException("Job not found with id: " + id));
+    }
+
+    private long pendingCount(String batchId) {
+        long pending = transactionService.countPendingInBatch(batchId);
+        if (pending == 0) {
+            throw new BadRequestException("No pending transactions found in batch: " + batchId);
+        }
+        return pending;
+    }
+
+    private BulkJob submit(BulkJobType type, String batchId, String userId, Object payload, long totalCount) {
+        BulkJob job = new BulkJob();
+        job.setJobType(type);
+        job.setBatchId(batchId);
+        job.setUserId(userId);
+        job.setUserEmail(securityContext.getUserEmail());
+        job.setPayload(serializePayload(payload));
+        job.setTotalCount(totalCount);
+
+        // Committed before it is handed to a worker, so the job survives a restart from here on
+        QuarkusTransaction.requiringNew().run(() -> bulkJobRepository.persist(job));
+        bulkJobExecutor.dispatch(job.id);
+        return job;
+    }
+
+    private String serializePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Failed to serialize job payload: " + e.getOriginalMessage());
+        }
+    }
+}
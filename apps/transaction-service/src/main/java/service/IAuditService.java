@@ -5,6 +5,7 @@ import models.AuditLog;
 import models.Bank;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Project: pay-stream
@@ -19,5 +20,10 @@ public interface IAuditService {
     @Transactional
     void logEvent(String entityType, Long entityId, String action, String userId, Object details);
 
+    @Transactional
+    void logEvents(String entityType, List<Long> entityIds, String action, String userId, Object details);
+
     List<AuditLog> getAllAuditLogs();
+
+    void forEachAuditLog(Consumer<AuditLog> action);
 }
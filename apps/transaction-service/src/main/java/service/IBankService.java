@@ -3,7 +3,11 @@ package service;
 import dto.BankRequestDTO;
 import models.Bank;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Project: pay-stream
@@ -20,6 +24,9 @@ public interface IBankService {
     void deleteBank(Long id, String userId);
     Bank getBank(Long id);
     Bank getBankByBranchCode(String branchCode);
+    Optional<Bank> findBankByBranchCode(String branchCode);
     List<Bank> getAllBanks();
     List<Bank> getActiveBanks();
+    void forEachBank(boolean activeOnly, Consumer<Bank> action);
+    Map<String, Bank> resolveActiveBanks(Collection<String> branchCodes);
 }
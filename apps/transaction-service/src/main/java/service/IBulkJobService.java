@@ -0,0 +1,22 @@
+package service;
+
+import dto.ApprovalRequestDTO;
+import dto.BulkTransactionRequestDTO;
+import dto.RejectionRequestDTO;
+import models.BulkJob;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: IBulkJobService
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IBulkJobService {
+    BulkJob submitBulkCreate(BulkTransactionRequestDTO requestDTO, String userId);
+    BulkJob submitBatchApprove(String batchId, ApprovalRequestDTO approvalDTO, String approverId);
+    BulkJob submitBatchReject(String batchId, RejectionRequestDTO rejectionDTO, String rejecterId);
+    BulkJob getJob(Long id);
+}
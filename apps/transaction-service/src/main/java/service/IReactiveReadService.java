@@ -0,0 +1,27 @@
+package service;
+
+import dto.AuditLogResponseDTO;
+import dto.BankResponseDTO;
+import dto.KeysetPage;
+import dto.TransactionFilterDTO;
+import dto.TransactionResponseDTO;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import models.TransactionStatus;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: IReactiveReadService
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public interface IReactiveReadService {
+    Multi<TransactionResponseDTO> streamTransactionsInBatch(String batchId);
+    Multi<TransactionResponseDTO> streamTransactionsWithStatus(TransactionStatus status);
+    Uni<KeysetPage<TransactionResponseDTO>> listTransactions(TransactionFilterDTO filter);
+    Multi<BankResponseDTO> streamBanks(boolean activeOnly);
+    Multi<AuditLogResponseDTO> streamAuditLogs();
+}
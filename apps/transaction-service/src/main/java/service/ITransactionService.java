@@ -1,12 +1,19 @@
 package service;
 
 import dto.ApprovalRequestDTO;
+import dto.BulkIngestResultDTO;
 import dto.BulkTransactionRequestDTO;
+import dto.KeysetPage;
 import dto.RejectionRequestDTO;
+import dto.TransactionFilterDTO;
 import dto.TransactionRequestDTO;
+import dto.TransactionResponseDTO;
 import models.Transaction;
+import models.TransactionStatus;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Project: pay-stream
@@ -20,11 +27,25 @@ import java.util.List;
 public interface ITransactionService {
     Transaction createTransaction(TransactionRequestDTO requestDTO, String userId);
     List<Transaction> createBulkTransactions(BulkTransactionRequestDTO requestDTO, String userId);
+    List<Transaction> appendToBatch(String batchId, List<TransactionRequestDTO> requests, String userId);
+    BulkIngestResultDTO ingestNdjson(InputStream body, String userId);
     Transaction getTransaction(Long id);
     List<Transaction> getTransactionsByBatchId(String batchId);
     Transaction approveTransaction(Long id, ApprovalRequestDTO approvalDTO, String approverId);
     Transaction rejectTransaction(Long id, RejectionRequestDTO rejectionDTO, String rejecterId);
     List<Transaction> batchApproveTransactions(String batchId, ApprovalRequestDTO approvalDTO, String approverId);
     List<Transaction> batchRejectTransactions(String batchId, RejectionRequestDTO rejectionDTO, String rejecterId);
+    int approveBatch(String batchId, ApprovalRequestDTO approvalDTO, String approverId);
+    int rejectBatch(String batchId, RejectionRequestDTO rejectionDTO, String rejecterId);
+    long countPendingInBatch(String batchId);
     List<Transaction> getTransactionsByStatus(String status);
+    TransactionStatus parseStatus(String status);
+    void forEachTransactionInBatch(String batchId, Consumer<TransactionResponseDTO> action);
+    void forEachTransactionWithStatus(TransactionStatus status, Consumer<TransactionResponseDTO> action);
+    KeysetPage<TransactionResponseDTO> listTransactions(TransactionFilterDTO filter);
+
+    /**
+     * The requested page size, defaulted and capped by the listing config; non-positive sizes are rejected.
+     */
+    int resolvePageLimit(Integer requested);
 }
@@ -0,0 +1,210 @@
+package service;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: PartitionManager
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class PartitionManager {
+
+    private static final Logger LOG = Logger.getLogger(PartitionManager.class);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    DataSource dataSource;
+
+    @ConfigProperty(name = "pay-stream.partitions.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "pay-stream.partitions.months-ahead", defaultValue = "3")
+    int monthsAhead;
+
+    // 0 keeps partitions forever
+    @ConfigProperty(name = "pay-stream.partitions.transactions-retention-months", defaultValue = "0")
+    int transactionsRetentionMonths;
+
+    @ConfigProperty(name = "pay-stream.partitions.audit-logs-retention-months", defaultValue = "0")
+    int auditLogsRetentionMonths;
+
+    /**
+     * There is deliberately no DEFAULT partition: it would rule out DETACH CONCURRENTLY, and a row
+     * parked in it blocks creating the partition for its month. Instead an insert past the last
+     * partition fails, so startup refuses to go on without next month covered.
+     */
+    void onStart(@Observes StartupEvent event) {
+        maintainPartitions();
+        for (String table : List.of("transactions", "audit_logs")) {
+            YearMonth coveredUntil = QuarkusTransaction.requiringNew().call(() -> coveredUntil(table));
+            if (coveredUntil == null || !coveredUntil.isAfter(YearMonth.now().plusMonths(1))) {
+                throw new IllegalStateException("No partition of " + table + " covers next month"
+                        + (enabled ? "" : "; enable pay-stream.partitions or create them by hand"));
+            }
+        }
+    }
+
+    @Scheduled(every = "{pay-stream.partitions.check-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        maintain("transactions", transactionsRetentionMonths);
+        maintain("audit_logs", auditLogsRetentionMonths);
+    }
+
+    private void maintain(String table, int retentionMonths) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                lock(table);
+                createFuturePartitions(table);
+            });
+            if (retentionMonths > 0) {
+                detachExpiredPartitions(table, YearMonth.now().minusMonths(retentionMonths));
+            }
+        } catch (RuntimeException | SQLException e) {
+            LOG.errorf(e, "Partition maintenance failed for %s", table);
+        }
+    }
+
+    // Serialises maintenance across service instances
+    private void lock(String table) {
+        entityManager.createNativeQuery("select count(*) from (select pg_advisory_xact_lock(hashtext(?1))) l")
+                .setParameter(1, lockKey(table))
+                .getSingleResult();
+    }
+
+    private static String lockKey(String table) {
+        return "partition-manager:" + table;
+    }
+
+    // Partitions are only ever appended above the highest existing bound, so the range stays contiguous
+    private void createFuturePartitions(String table) {
+        YearMonth month = YearMonth.now();
+        YearMonth firstUncovered = coveredUntil(table);
+        if (firstUncovered != null && firstUncovered.isAfter(month)) {
+            month = firstUncovered;
+        }
+
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (; !month.isAfter(last); month = month.plusMonths(1)) {
+            String partition = table + month.format(PARTITION_SUFFIX);
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            entityManager.createNativeQuery(String.format(
+                    "create table if not exists %s partition of %s for values from ('%s') to ('%s')",
+                    partition, table, from, to)).executeUpdate();
+            LOG.infof("Created partition %s", partition);
+        }
+    }
+
+    // The first month no partition covers, or null when the table has none
+    private YearMonth coveredUntil(String table) {
+        Object upperBound = entityManager.createNativeQuery("""
+                        select max(cast(substring(pg_get_expr(c.relpartbound, c.oid) from 'TO \\(''([^'']+)''\\)') as timestamp))
+                          from pg_inherits i
+                          join pg_class c on c.oid = i.inhrelid
+                         where i.inhparent = cast(?1 as regclass)
+                        """)
+                .setParameter(1, table)
+                .getSingleResult();
+        if (upperBound == null) {
+            return null;
+        }
+        LocalDateTime coveredUntil = upperBound instanceof Timestamp timestamp
+                ? timestamp.toLocalDateTime()
+                : (LocalDateTime) upperBound;
+        return YearMonth.from(coveredUntil);
+    }
+
+    /**
+     * Detached partitions stay in the database as plain tables for archiving. A plain DETACH takes
+     * an ACCESS EXCLUSIVE lock on the parent, stalling every insert and listing behind it, so this
+     * uses DETACH CONCURRENTLY, which only needs SHARE UPDATE EXCLUSIVE. That cannot run inside a
+     * transaction block, so it goes over an autocommit connection holding the maintenance lock at
+     * session level. A detach interrupted part way is left pending and is finalized on the next run.
+     */
+    private void detachExpiredPartitions(String table, YearMonth cutoff) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            try (PreparedStatement lock = connection.prepareStatement("select pg_advisory_lock(hashtext(?))")) {
+                lock.setString(1, lockKey(table));
+                lock.execute();
+            }
+            try {
+                for (ExpiredPartition partition : expiredPartitions(connection, table, cutoff)) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(String.format("alter table %s detach partition %s %s",
+                                table, partition.name(), partition.detachPending() ? "finalize" : "concurrently"));
+                    }
+                    LOG.infof("Detached expired partition %s", partition.name());
+                }
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("select pg_advisory_unlock(hashtext(?))")) {
+                    unlock.setString(1, lockKey(table));
+                    unlock.execute();
+                }
+            }
+        }
+    }
+
+    private record ExpiredPartition(String name, boolean detachPending) {}
+
+    private List<ExpiredPartition> expiredPartitions(Connection connection, String table, YearMonth cutoff) throws SQLException {
+        List<ExpiredPartition> expired = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement("""
+                select c.relname, i.inhdetachpending
+                  from pg_inherits i
+                  join pg_class c on c.oid = i.inhrelid
+                 where i.inhparent = cast(? as regclass)
+                """)) {
+            query.setString(1, table);
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    String partition = rows.getString(1);
+                    YearMonth month;
+                    try {
+                        month = YearMonth.parse(partition.substring(table.length()), PARTITION_SUFFIX);
+                    } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+                        // Not one of ours, e.g. the legacy partition
+                        continue;
+                    }
+                    if (month.isBefore(cutoff)) {
+                        expired.add(new ExpiredPartition(partition, rows.getBoolean(2)));
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+}
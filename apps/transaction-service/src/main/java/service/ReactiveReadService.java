@@ -0,0 +1,91 @@
+package service;
+
+import dto.AuditLogResponseDTO;
+import dto.BankResponseDTO;
+import dto.KeysetPage;
+import dto.TransactionFilterDTO;
+import dto.TransactionResponseDTO;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import models.TransactionStatus;
+import repository.IReactiveAuditLogRepository;
+import repository.IReactiveBankRepository;
+import repository.IReactiveTransactionRepository;
+import util.PageCursor;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: ReactiveReadService
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class ReactiveReadService implements IReactiveReadService {
+
+    @Inject
+    IReactiveTransactionRepository transactionRepository;
+
+    @Inject
+    IReactiveBankRepository bankRepository;
+
+    @Inject
+    IReactiveAuditLogRepository auditLogRepository;
+
+    @Inject
+    ITransactionService transactionService;
+
+    @WithSpan
+    @Override
+    public Multi<TransactionResponseDTO> streamTransactionsInBatch(@SpanAttribute("batch.id") String batchId) {
+        return transactionRepository.streamByBatchId(batchId);
+    }
+
+    @WithSpan
+    @Override
+    public Multi<TransactionResponseDTO> streamTransactionsWithStatus(@SpanAttribute("transaction.status") TransactionStatus status) {
+        return transactionRepository.streamByStatus(status);
+    }
+
+    // Validation is shared with the blocking listing, so both reject the same requests with the same 400s
+    @WithSpan
+    @Override
+    public Uni<KeysetPage<TransactionResponseDTO>> listTransactions(TransactionFilterDTO filter) {
+        int limit = transactionService.resolvePageLimit(filter.getLimit());
+        TransactionStatus status = filter.getStatus() == null ? null : transactionService.parseStatus(filter.getStatus());
+        PageCursor after = filter.getCursor() == null ? null : PageCursor.decode(filter.getCursor());
+
+        // Fetch one extra row to learn whether another page exists
+        return transactionRepository.findPage(
+                        status,
+                        filter.getBankBranchCode(),
+                        filter.getBatchId(),
+                        filter.getCurrency(),
+                        filter.getMinAmount(),
+                        filter.getMaxAmount(),
+                        filter.getFrom(),
+                        filter.getTo(),
+                        after,
+                        limit + 1)
+                .map(rows -> KeysetPage.fromOverfetched(rows, limit,
+                        last -> new PageCursor(last.getCreatedAt(), last.getId()).encode()));
+    }
+
+    @WithSpan
+    @Override
+    public Multi<BankResponseDTO> streamBanks(boolean activeOnly) {
+        return activeOnly ? bankRepository.streamActive() : bankRepository.streamAll();
+    }
+
+    @WithSpan
+    @Override
+    public Multi<AuditLogResponseDTO> streamAuditLogs() {
+        return auditLogRepository.streamAll();
+    }
+}
@@ -0,0 +1,162 @@
+package service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import util.SecurityContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: TransactionMetrics
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class TransactionMetrics {
+
+    public static final String OUTCOME_CREATED = "created";
+    public static final String OUTCOME_APPROVED = "approved";
+    public static final String OUTCOME_REJECTED = "rejected";
+
+    // Tag value used once a tag has seen its maximum number of distinct values
+    static final String OTHER = "other";
+
+    private static final String TRANSACTIONS = "paystream.transactions";
+    private static final String BATCH_SIZE = "paystream.batch.size";
+
+    record CounterKey(String outcome, String tenant, String currency) {}
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @ConfigProperty(name = "pay-stream.metrics.max-tenant-tags", defaultValue = "100")
+    int maxTenantTags;
+
+    @ConfigProperty(name = "pay-stream.metrics.max-currency-tags", defaultValue = "50")
+    int maxCurrencyTags;
+
+    private final Set<String> tenantTags = ConcurrentHashMap.newKeySet();
+    private final Set<String> currencyTags = ConcurrentHashMap.newKeySet();
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+
+    // Latency histograms for every resource method; http.server.requests is tagged by URI
+    // template and HTTP method, so the series count is bounded by the number of endpoints
+    @Produces
+    @Singleton
+    static MeterFilter httpServerHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("http.server.requests")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * Counts {@code count} transactions of one currency reaching {@code outcome} for the current
+     * tenant. Inside a transaction the count is only recorded once it commits.
+     */
+    public void recordTransactions(String outcome, String currency, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter counter = counters.computeIfAbsent(
+                new CounterKey(outcome, bounded(tenantTags, securityContext.getTenantId(), maxTenantTags),
+                        bounded(currencyTags, currency, maxCurrencyTags)),
+                key -> Counter.builder(TRANSACTIONS)
+                        .description("Transactions created, approved or rejected")
+                        .tag("outcome", key.outcome())
+                        .tag("tenant", key.tenant())
+                        .tag("currency", key.currency())
+                        .register(registry));
+        afterCommit(() -> counter.increment(count));
+    }
+
+    public void recordTransactions(String outcome, Map<String, Long> countsByCurrency) {
+        countsByCurrency.forEach((currency, count) -> recordTransactions(outcome, currency, count));
+    }
+
+    /**
+     * Records the size of one batch operation; {@code operation} is one of create, ingest,
+     * approve or reject.
+     */
+    public void recordBatchSize(String operation, int size) {
+        batchSizes.computeIfAbsent(operation, key -> DistributionSummary.builder(BATCH_SIZE)
+                        .description("Transactions per bulk create, ingest chunk or batch decision")
+                        .baseUnit("transactions")
+                        .tag("operation", key)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1.0)
+                        .maximumExpectedValue(100_000.0)
+                        .register(registry))
+                .record(size);
+    }
+
+    // Values past the limit collapse into OTHER, so a noisy tenant or bad input can't explode the series count
+    private static String bounded(Set<String> seen, String value, int limit) {
+        if (value == null) {
+            return OTHER;
+        }
+        if (seen.contains(value)) {
+            return value;
+        }
+        if (seen.size() >= limit) {
+            return OTHER;
+        }
+        seen.add(value);
+        return value;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (transactionSynchronizationRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            action.run();
+            return;
+        }
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
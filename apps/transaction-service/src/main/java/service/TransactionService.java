@@ -1,25 +1,51 @@
 package service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import dto.ApprovalRequestDTO;
+import dto.BulkIngestResultDTO;
 import dto.BulkTransactionRequestDTO;
+import dto.KeysetPage;
 import dto.RejectionRequestDTO;
+import dto.TransactionFilterDTO;
 import dto.TransactionRequestDTO;
+import dto.TransactionResponseDTO;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.NotFoundException;
 import models.Bank;
 import models.Transaction;
 import models.TransactionStatus;
-import repository.IBankRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 import repository.ITransactionRepository;
+import util.PageCursor;
 import util.SecurityContext;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Project: pay-stream
@@ -33,11 +59,11 @@ import java.util.UUID;
 @ApplicationScoped
 public class TransactionService implements ITransactionService {
 
-    @Inject
-    ITransactionRepository transactionRepository;
+    private static final Logger LOG = Logger.getLogger(TransactionService.class);
+    private static final int END_OF_INPUT = -1;
 
     @Inject
-    IBankRepository bankRepository;
+    ITransactionRepository transactionRepository;
 
     @Inject
     SecurityContext securityContext;
@@ -45,11 +71,39 @@ public class TransactionService implements ITransactionService {
     @Inject
     IAuditService auditService;
 
+    @Inject
+    IBankService bankService;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    TransactionMetrics metrics;
+
+    @ConfigProperty(name = "pay-stream.ingest.chunk-size", defaultValue = "1000")
+    int ingestChunkSize;
+
+    @ConfigProperty(name = "pay-stream.ingest.max-reported-errors", defaultValue = "1000")
+    int maxReportedErrors;
+
+    @ConfigProperty(name = "pay-stream.ingest.max-line-length", defaultValue = "65536")
+    int maxLineLength;
+
+    @ConfigProperty(name = "pay-stream.listing.default-page-size", defaultValue = "50")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "pay-stream.listing.max-page-size", defaultValue = "200")
+    int maxPageSize;
+
+    @WithSpan
     @Override
     @Transactional
     public Transaction createTransaction(TransactionRequestDTO requestDTO, String userId) {
         // Find the bank by branch code
-        Bank bank = bankRepository.findByBranchCode(requestDTO.getBankBranchCode())
+        Bank bank = bankService.findBankByBranchCode(requestDTO.getBankBranchCode())
                 .orElseThrow(() -> new BadRequestException("Bank not found with branch code: " + requestDTO.getBankBranchCode()));
 
         if (!bank.isActive()) {
@@ -60,6 +114,7 @@ public class TransactionService implements ITransactionService {
         transaction.setBank(bank);
         transaction.setCreatedBy(userId);
         transactionRepository.persist(transaction);
+        metrics.recordTransactions(TransactionMetrics.OUTCOME_CREATED, transaction.getMoney().getCurrency(), 1);
 
         // Create audit log
         auditService.logEvent(
@@ -73,36 +128,13 @@ public class TransactionService implements ITransactionService {
         return transaction;
     }
 
+    @WithSpan
     @Override
     @Transactional
     public List<Transaction> createBulkTransactions(BulkTransactionRequestDTO requestDTO, String userId) {
         String batchId = UUID.randomUUID().toString();
-        List<Transaction> transactions = new ArrayList<>();
-        for (TransactionRequestDTO dto : requestDTO.getTransactions()) {
-            // Find the bank by branch code
-            Bank bank = bankRepository.findByBranchCode(dto.getBankBranchCode())
-                    .orElseThrow(() -> new BadRequestException("Bank not found with branch code: " + dto.getBankBranchCode()));
-
-            if (!bank.isActive()) {
-                throw new BadRequestException("Bank with branch code " + dto.getBankBranchCode() + " is inactive");
-            }
-
-            Transaction transaction = dto.toEntity();
-            transaction.setBank(bank);
-            transaction.setBatchId(batchId);
-            transaction.setCreatedBy(userId);
-            transactionRepository.persist(transaction);
-            transactions.add(transaction);
-
-            // Create audit log for each transaction
-            auditService.logEvent(
-                    "Transaction",
-                    transaction.id,
-                    "CREATE",
-                    userId,
-                    dto
-            );
-        }
+        List<Transaction> transactions = appendToBatch(batchId, requestDTO.getTransactions(), userId);
+        metrics.recordBatchSize("create", transactions.size());
 
         // Create audit log for the batch
         auditService.logEvent(
@@ -119,47 +151,248 @@ public class TransactionService implements ITransactionService {
         return transactions;
     }
 
+    @WithSpan
     @Override
     @Transactional
-    public List<Transaction> batchApproveTransactions(String batchId, ApprovalRequestDTO approvalDTO, String approverId) {
-        // Get all pending transactions in the batch
-        List<Transaction> pendingTransactions = transactionRepository.find(
-                "batchId = ?1 and status = ?2 and tenantId = ?3",
-                batchId,
-                TransactionStatus.PENDING_APPROVAL,
-                securityContext.getTenantId()
-        ).list();
-
-        if (pendingTransactions.isEmpty()) {
-            throw new BadRequestException("No pending transactions found in batch: " + batchId);
+    public List<Transaction> appendToBatch(@SpanAttribute("batch.id") String batchId, List<TransactionRequestDTO> requests, String userId) {
+        // Resolve every distinct branch code up front so bad codes fail before any work
+        Map<String, Bank> banks = bankService.resolveActiveBanks(requests.stream()
+                .map(TransactionRequestDTO::getBankBranchCode)
+                .toList());
+
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        for (TransactionRequestDTO dto : requests) {
+            Transaction transaction = dto.toEntity();
+            transaction.setBank(banks.get(dto.getBankBranchCode()));
+            transaction.setBatchId(batchId);
+            transaction.setCreatedBy(userId);
+            transactions.add(transaction);
+        }
+
+        // Insert in JDBC batches; the audit log for each row is queued alongside it
+        Iterator<TransactionRequestDTO> requestIterator = requests.iterator();
+        transactionRepository.persistInBatches(transactions, transaction -> auditService.logEvent(
+                "Transaction",
+                transaction.id,
+                "CREATE",
+                userId,
+                requestIterator.next()
+        ));
+        metrics.recordTransactions(TransactionMetrics.OUTCOME_CREATED, countByCurrency(transactions.stream()
+                .map(transaction -> transaction.getMoney().getCurrency())));
+
+        return transactions;
+    }
+
+    /**
+     * Reads one {@link TransactionRequestDTO} per line and commits every {@code chunkSize} valid
+     * lines in their own transaction under a shared batchId. Bad lines are reported and skipped,
+     * and nothing but the current chunk is held in memory, so the file size doesn't matter. A line
+     * longer than {@code max-line-length} is skipped unread rather than buffered.
+     * Chunks committed before a failure stay committed.
+     */
+    @WithSpan
+    @Override
+    public BulkIngestResultDTO ingestNdjson(InputStream body, String userId) {
+        String batchId = UUID.randomUUID().toString();
+        BulkIngestResultDTO result = new BulkIngestResultDTO(batchId, maxReportedErrors);
+        ObjectReader requestReader = objectMapper.readerFor(TransactionRequestDTO.class);
+        List<PendingLine> chunk = new ArrayList<>(ingestChunkSize);
+        StringBuilder lineBuffer = new StringBuilder();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            int lineLength;
+            while ((lineLength = readLine(reader, lineBuffer, maxLineLength)) != END_OF_INPUT) {
+                lineNumber++;
+                if (lineLength > maxLineLength) {
+                    result.recordLineRead();
+                    result.recordRejected(lineNumber, "Line is longer than " + maxLineLength + " characters");
+                    continue;
+                }
+                String line = lineBuffer.toString();
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.recordLineRead();
+
+                TransactionRequestDTO dto;
+                try {
+                    dto = requestReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    result.recordRejected(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String error = validateLine(dto);
+                if (error != null) {
+                    result.recordRejected(lineNumber, error);
+                    continue;
+                }
+
+                // Served from the bank cache, so a 5M line file doesn't mean 5M bank lookups
+                Bank bank = bankService.findBankByBranchCode(dto.getBankBranchCode()).orElse(null);
+                if (bank == null) {
+                    result.recordRejected(lineNumber, "Bank not found with branch code: " + dto.getBankBranchCode());
+                    continue;
+                }
+                if (!bank.isActive()) {
+                    result.recordRejected(lineNumber, "Bank with branch code " + dto.getBankBranchCode() + " is inactive");
+                    continue;
+                }
+
+                Transaction transaction = dto.toEntity();
+                transaction.setBank(bank);
+                transaction.setBatchId(batchId);
+                transaction.setCreatedBy(userId);
+                chunk.add(new PendingLine(lineNumber, dto, transaction));
+
+                if (chunk.size() >= ingestChunkSize) {
+                    commitChunk(chunk, userId, result);
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to read NDJSON body for batch " + batchId + ": " + e.getMessage());
+        }
+
+        if (!chunk.isEmpty()) {
+            commitChunk(chunk, userId, result);
+        }
+
+        if (result.getLinesRead() == 0) {
+            throw new BadRequestException("At least one transaction is required");
+        }
+
+        if (result.getAcceptedCount() > 0) {
+            long accepted = result.getAcceptedCount();
+            QuarkusTransaction.requiringNew().run(() -> auditService.logEvent(
+                    "TransactionBatch",
+                    null,
+                    "CREATE",
+                    userId,
+                    new Object() {
+                        public final String batchIdentifier = batchId;
+                        public final long count = accepted;
+                    }
+            ));
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads the next line, without its terminator, into {@code line} and returns its full length, or
+     * END_OF_INPUT once the body is exhausted. Characters past {@code maxLength} are counted but not
+     * kept, so one enormous line costs no more memory than a normal one.
+     */
+    private static int readLine(BufferedReader reader, StringBuilder line, int maxLength) throws IOException {
+        line.setLength(0);
+        int length = 0;
+        int c = reader.read();
+        if (c == -1) {
+            return END_OF_INPUT;
+        }
+        while (c != -1 && c != '\n') {
+            // JSON escapes carriage returns inside strings, so a raw one can only be part of a CRLF terminator
+            if (c != '\r') {
+                if (length < maxLength) {
+                    line.append((char) c);
+                }
+                length++;
+            }
+            c = reader.read();
+        }
+        return length;
+    }
+
+    // Returns null when the line is good, otherwise the reason it was rejected
+    private String validateLine(TransactionRequestDTO dto) {
+        if (dto == null) {
+            return "Line is not a JSON object";
         }
 
-        List<Transaction> approvedTransactions = new ArrayList<>();
+        Set<ConstraintViolation<TransactionRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
 
-        for (Transaction transaction : pendingTransactions) {
-            // Skip transactions created by the approver (separation of duties)
-            if (approverId.equals(transaction.getCreatedBy())) {
-                continue;
+    private void commitChunk(List<PendingLine> chunk, String userId, BulkIngestResultDTO result) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                Iterator<PendingLine> lines = chunk.iterator();
+                transactionRepository.persistInBatches(
+                        chunk.stream().map(PendingLine::transaction).toList(),
+                        transaction -> auditService.logEvent(
+                                "Transaction",
+                                transaction.id,
+                                "CREATE",
+                                userId,
+                                lines.next().request()
+                        ));
+                metrics.recordTransactions(TransactionMetrics.OUTCOME_CREATED, countByCurrency(chunk.stream()
+                        .map(line -> line.request().getCurrency())));
+            });
+            result.recordChunkCommitted(chunk.size());
+            metrics.recordBatchSize("ingest", chunk.size());
+        } catch (RuntimeException e) {
+            // Only this chunk is rolled back; earlier chunks are already committed
+            LOG.errorf(e, "Failed to commit ingest chunk of %d rows", chunk.size());
+            for (PendingLine line : chunk) {
+                result.recordRejected(line.lineNumber(), "Chunk rolled back: " + e.getMessage());
             }
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private static Map<String, Long> countByCurrency(Stream<String> currencies) {
+        return currencies.collect(Collectors.groupingBy(currency -> currency, Collectors.counting()));
+    }
 
-            // Update transaction status
-            transaction.setStatus(TransactionStatus.APPROVED);
-            transaction.setApprovedBy(approverId);
-            transaction.setApprovedAt(LocalDateTime.now());
-            transaction.setApprovalNotes(approvalDTO.getNotes());
-
-            // Create audit log
-            auditService.logEvent(
-                    "Transaction",
-                    transaction.id,
-                    "APPROVE",
-                    approverId,
-                    approvalDTO
-            );
-
-            approvedTransactions.add(transaction);
+    private record PendingLine(long lineNumber, TransactionRequestDTO request, Transaction transaction) {
+    }
+
+    @WithSpan
+    @Override
+    @Transactional
+    public List<Transaction> batchApproveTransactions(@SpanAttribute("batch.id") String batchId, ApprovalRequestDTO approvalDTO, String approverId) {
+        LocalDateTime approvedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> approvedIds = approvePending(batchId, approvalDTO, approverId, approvedAt);
+
+        return approvedIds.isEmpty()
+                ? List.of()
+                : transactionRepository.findApprovedInBatch(batchId, approverId, approvedAt);
+    }
+
+    // Same as batchApproveTransactions without reloading the rows, for batches too big to return
+    @WithSpan
+    @Override
+    @Transactional
+    public int approveBatch(@SpanAttribute("batch.id") String batchId, ApprovalRequestDTO approvalDTO, String approverId) {
+        return approvePending(batchId, approvalDTO, approverId, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)).size();
+    }
+
+    private List<Long> approvePending(String batchId, ApprovalRequestDTO approvalDTO, String approverId, LocalDateTime approvedAt) {
+        // One set-based UPDATE; transactions created by the approver are skipped (separation of duties)
+        List<ITransactionRepository.DecidedTransaction> approved = transactionRepository.approvePendingInBatch(
+                batchId, approverId, approvalDTO.getNotes(), approvedAt);
+        List<Long> approvedIds = approved.stream().map(ITransactionRepository.DecidedTransaction::id).toList();
+
+        if (approvedIds.isEmpty() && transactionRepository.countPendingInBatch(batchId) == 0) {
+            throw new BadRequestException("No pending transactions found in batch: " + batchId);
         }
 
+        // Create audit logs for every approved transaction in one batch
+        auditService.logEvents("Transaction", approvedIds, "APPROVE", approverId, approvalDTO);
+        metrics.recordTransactions(TransactionMetrics.OUTCOME_APPROVED, countByCurrency(approved.stream()
+                .map(ITransactionRepository.DecidedTransaction::currency)));
+        metrics.recordBatchSize("approve", approvedIds.size());
+
         // Create batch approval audit log
         auditService.logEvent(
                 "TransactionBatch",
@@ -168,48 +401,50 @@ public class TransactionService implements ITransactionService {
                 approverId,
                 new Object() {
                     public final String batchIdentifier = batchId;
-                    public final int count = approvedTransactions.size();
+                    public final int count = approvedIds.size();
                 }
         );
 
-        return approvedTransactions;
+        return approvedIds;
+    }
+
+    @WithSpan
+    @Override
+    @Transactional
+    public List<Transaction> batchRejectTransactions(@SpanAttribute("batch.id") String batchId, RejectionRequestDTO rejectionDTO, String rejecterId) {
+        LocalDateTime rejectedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        rejectPending(batchId, rejectionDTO, rejecterId, rejectedAt);
+
+        return transactionRepository.findRejectedInBatch(batchId, rejecterId, rejectedAt);
     }
 
+    @WithSpan
     @Override
     @Transactional
-    public List<Transaction> batchRejectTransactions(String batchId, RejectionRequestDTO rejectionDTO, String rejecterId) {
-        // Get all pending transactions in the batch
-        List<Transaction> pendingTransactions = transactionRepository.find(
-                "batchId = ?1 and status = ?2 and tenantId = ?3",
-                batchId,
-                TransactionStatus.PENDING_APPROVAL,
-                securityContext.getTenantId()
-        ).list();
-
-        if (pendingTransactions.isEmpty()) {
+    public int rejectBatch(@SpanAttribute("batch.id") String batchId, RejectionRequestDTO rejectionDTO, String rejecterId) {
+        return rejectPending(batchId, rejectionDTO, rejecterId, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)).size();
+    }
+
+    @WithSpan
+    @Override
+    public long countPendingInBatch(@SpanAttribute("batch.id") String batchId) {
+        return transactionRepository.countPendingInBatch(batchId);
+    }
+
+    private List<Long> rejectPending(String batchId, RejectionRequestDTO rejectionDTO, String rejecterId, LocalDateTime rejectedAt) {
+        List<ITransactionRepository.DecidedTransaction> rejected = transactionRepository.rejectPendingInBatch(
+                batchId, rejecterId, rejectionDTO.getReason(), rejectedAt);
+        List<Long> rejectedIds = rejected.stream().map(ITransactionRepository.DecidedTransaction::id).toList();
+
+        if (rejectedIds.isEmpty()) {
             throw new BadRequestException("No pending transactions found in batch: " + batchId);
         }
 
-        List<Transaction> rejectedTransactions = new ArrayList<>();
-
-        for (Transaction transaction : pendingTransactions) {
-            // Update transaction status
-            transaction.setStatus(TransactionStatus.REJECTED);
-            transaction.setRejectedBy(rejecterId);
-            transaction.setRejectedAt(LocalDateTime.now());
-            transaction.setRejectionReason(rejectionDTO.getReason());
-
-            // Create audit log
-            auditService.logEvent(
-                    "Transaction",
-                    transaction.id,
-                    "REJECT",
-                    rejecterId,
-                    rejectionDTO
-            );
-
-            rejectedTransactions.add(transaction);
-        }
+        // Create audit logs for every rejected transaction in one batch
+        auditService.logEvents("Transaction", rejectedIds, "REJECT", rejecterId, rejectionDTO);
+        metrics.recordTransactions(TransactionMetrics.OUTCOME_REJECTED, countByCurrency(rejected.stream()
+                .map(ITransactionRepository.DecidedTransaction::currency)));
+        metrics.recordBatchSize("reject", rejectedIds.size());
 
         // Create batch rejection audit log
         auditService.logEvent(
@@ -219,23 +454,27 @@ public class TransactionService implements ITransactionService {
                 rejecterId,
                 new Object() {
                     public final String batchIdentifier = batchId;
-                    public final int count = rejectedTransactions.size();
+                    public final int count = rejectedIds.size();
                 }
         );
 
-        return rejectedTransactions;
+        return rejectedIds;
     }
+
+    @WithSpan
     @Override
     public Transaction getTransaction(Long id) {
         return transactionRepository.findByIdOptional(id)
                 .orElseThrow(() -> new NotFoundException("Transaction not found with id: " + id));
     }
 
+    @WithSpan
     @Override
-    public List<Transaction> getTransactionsByBatchId(String batchId) {
+    public List<Transaction> getTransactionsByBatchId(@SpanAttribute("batch.id") String batchId) {
         return transactionRepository.findByBatchId(batchId);
     }
 
+    @WithSpan
     @Override
     @Transactional
     public Transaction approveTransaction(Long id, ApprovalRequestDTO approvalDTO, String approverId) {
@@ -254,6 +493,7 @@ public class TransactionService implements ITransactionService {
         transaction.setApprovedBy(approverId);
         transaction.setApprovedAt(LocalDateTime.now());
         transaction.setApprovalNotes(approvalDTO.getNotes());
+        metrics.recordTransactions(TransactionMetrics.OUTCOME_APPROVED, transaction.getMoney().getCurrency(), 1);
 
         // Create audit log
         auditService.logEvent(
@@ -267,6 +507,7 @@ public class TransactionService implements ITransactionService {
         return transaction;
     }
 
+    @WithSpan
     @Override
     @Transactional
     public Transaction rejectTransaction(Long id, RejectionRequestDTO rejectionDTO, String rejecterId) {
@@ -280,6 +521,7 @@ public class TransactionService implements ITransactionService {
         transaction.setRejectedBy(rejecterId);
         transaction.setRejectedAt(LocalDateTime.now());
         transaction.setRejectionReason(rejectionDTO.getReason());
+        metrics.recordTransactions(TransactionMetrics.OUTCOME_REJECTED, transaction.getMoney().getCurrency(), 1);
 
         // Create audit log
         auditService.logEvent(
@@ -293,13 +535,68 @@ public class TransactionService implements ITransactionService {
         return transaction;
     }
 
+    @WithSpan
     @Override
     public List<Transaction> getTransactionsByStatus(String status) {
+        return transactionRepository.findByStatus(parseStatus(status));
+    }
+
+    @Override
+    public TransactionStatus parseStatus(String status) {
         try {
-            TransactionStatus transactionStatus = TransactionStatus.valueOf(status.toUpperCase());
-            return transactionRepository.findByStatus(transactionStatus);
+            return TransactionStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new BadRequestException("Invalid status: " + status);
         }
     }
-}
\ No newline at end of file
+
+    @WithSpan
+    @Override
+    @Transactional
+    public void forEachTransactionInBatch(@SpanAttribute("batch.id") String batchId, Consumer<TransactionResponseDTO> action) {
+        try (Stream<TransactionResponseDTO> transactions = transactionRepository.streamByBatchId(batchId)) {
+            transactions.forEach(action);
+        }
+    }
+
+    @WithSpan
+    @Override
+    @Transactional
+    public void forEachTransactionWithStatus(TransactionStatus status, Consumer<TransactionResponseDTO> action) {
+        try (Stream<TransactionResponseDTO> transactions = transactionRepository.streamByStatus(status)) {
+            transactions.forEach(action);
+        }
+    }
+
+    @WithSpan
+    @Override
+    public KeysetPage<TransactionResponseDTO> listTransactions(TransactionFilterDTO filter) {
+        int limit = resolvePageLimit(filter.getLimit());
+        TransactionStatus status = filter.getStatus() == null ? null : parseStatus(filter.getStatus());
+        PageCursor after = filter.getCursor() == null ? null : PageCursor.decode(filter.getCursor());
+
+        // Fetch one extra row to learn whether another page exists
+        List<TransactionResponseDTO> rows = transactionRepository.findPage(
+                status,
+                filter.getBankBranchCode(),
+                filter.getBatchId(),
+                filter.getCurrency(),
+                filter.getMinAmount(),
+                filter.getMaxAmount(),
+                filter.getFrom(),
+                filter.getTo(),
+                after,
+                limit + 1
+        );
+        return KeysetPage.fromOverfetched(rows, limit, last -> new PageCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    @Override
+    public int resolvePageLimit(Integer requested) {
+        int limit = requested == null ? defaultPageSize : requested;
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+}
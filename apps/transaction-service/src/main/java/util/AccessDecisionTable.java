@@ -0,0 +1,166 @@
+package util;
+
+import io.quarkus.runtime.Startup;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.Path;
+import org.jboss.logging.Logger;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: AccessDecisionTable
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Singleton
+@Startup
+public class AccessDecisionTable {
+
+    private static final Logger LOG = Logger.getLogger(AccessDecisionTable.class);
+
+    // Role ids are bit positions in a long
+    static final int MAX_ROLES = Long.SIZE;
+
+    /**
+     * A resource method's {@link RequiresRole} requirement. Rules built at startup fold the roles
+     * into a bitmask; a rule resolved later keeps the role names instead, since roles first seen
+     * then have no id in the callers' masks.
+     */
+    public record Rule(long required, boolean allOf, Set<String> roles) {
+        public boolean permits(RoleSet granted) {
+            if (roles != null) {
+                return allOf ? granted.names().containsAll(roles) : roles.stream().anyMatch(granted::contains);
+            }
+            long mask = granted.mask();
+            return allOf ? (mask & required) == required : (mask & required) != 0;
+        }
+    }
+
+    // Indexed methods without a requirement, so a lookup miss always means "not indexed"
+    private static final Rule NO_RULE = new Rule(0, true, null);
+
+    @Inject
+    BeanManager beanManager;
+
+    private Map<String, Integer> roleIds = Map.of();
+    private Map<Method, Rule> rules = Map.of();
+    // Resource methods startup discovery missed, resolved on their first request
+    private final Map<Method, Rule> lateRules = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        List<Class<?>> resourceClasses = beanManager.getBeans(Object.class, Any.Literal.INSTANCE).stream()
+                .map(Bean::getBeanClass)
+                .filter(beanClass -> beanClass.isAnnotationPresent(Path.class))
+                .distinct()
+                .toList();
+        index(resourceClasses);
+    }
+
+    // For benchmarks, which have no container to discover resources from
+    static AccessDecisionTable of(Class<?>... resourceClasses) {
+        AccessDecisionTable table = new AccessDecisionTable();
+        table.index(Arrays.asList(resourceClasses));
+        return table;
+    }
+
+    /**
+     * Resolves every resource method's requirement once: a method annotation wins over the class
+     * annotation, and methods with neither get no rule (open to any authenticated caller), exactly
+     * as the filter used to decide per request. Role names are interned as they are met.
+     */
+    private void index(Collection<Class<?>> resourceClasses) {
+        Map<String, Integer> ids = new HashMap<>();
+        Map<Method, Rule> table = new HashMap<>();
+        for (Class<?> resourceClass : resourceClasses) {
+            RequiresRole classRoles = resourceClass.getAnnotation(RequiresRole.class);
+            for (Method method : resourceMethods(resourceClass)) {
+                RequiresRole methodRoles = method.getAnnotation(RequiresRole.class);
+                RequiresRole roles = methodRoles != null ? methodRoles : classRoles;
+                table.putIfAbsent(method, roles == null ? NO_RULE : new Rule(mask(roles.value(), ids), roles.allOf(), null));
+            }
+        }
+        roleIds = Map.copyOf(ids);
+        rules = Map.copyOf(table);
+    }
+
+    private static List<Method> resourceMethods(Class<?> resourceClass) {
+        List<Method> methods = new ArrayList<>(Arrays.asList(resourceClass.getDeclaredMethods()));
+        // Public methods inherited from a base resource class
+        methods.addAll(Arrays.asList(resourceClass.getMethods()));
+        return methods;
+    }
+
+    private static long mask(String[] roles, Map<String, Integer> ids) {
+        long mask = 0;
+        for (String role : roles) {
+            int id = ids.computeIfAbsent(role, name -> ids.size());
+            if (id >= MAX_ROLES) {
+                throw new IllegalStateException("More than " + MAX_ROLES + " distinct roles in @RequiresRole; role " + role);
+            }
+            mask |= 1L << id;
+        }
+        return mask;
+    }
+
+    /**
+     * The rule for a resource method, or null when it carries no role requirement. A method the
+     * startup scan did not see (a resource that is not a discovered bean, an interface-declared
+     * {@code @Path}, a sub-resource) is resolved from its annotations on first use and remembered,
+     * so a gap in discovery can never drop a role check.
+     */
+    public Rule ruleFor(Class<?> resourceClass, Method resourceMethod) {
+        Rule rule = rules.get(resourceMethod);
+        if (rule == null) {
+            rule = lateRules.get(resourceMethod);
+        }
+        if (rule == null) {
+            // Resolved outside the map's lock; two racing requests just resolve the same rule twice
+            rule = resolve(resourceClass, resourceMethod);
+            lateRules.putIfAbsent(resourceMethod, rule);
+            LOG.warnf("Resource method %s was not indexed at startup; resolved its role requirement on first use",
+                    resourceMethod);
+        }
+        return rule == NO_RULE ? null : rule;
+    }
+
+    private static Rule resolve(Class<?> resourceClass, Method resourceMethod) {
+        RequiresRole roles = resourceMethod.getAnnotation(RequiresRole.class);
+        if (roles == null) {
+            roles = resourceClass.getAnnotation(RequiresRole.class);
+        }
+        return roles == null ? NO_RULE : new Rule(0, roles.allOf(), Set.copyOf(Arrays.asList(roles.value())));
+    }
+
+    /**
+     * The caller's roles as a bitmask. Roles no resource asks for have no id and are dropped,
+     * since they can never satisfy a rule.
+     */
+    public long roleMask(Collection<String> roles) {
+        long mask = 0;
+        for (String role : roles) {
+            Integer id = roleIds.get(role);
+            if (id != null) {
+                mask |= 1L << id;
+            }
+        }
+        return mask;
+    }
+}
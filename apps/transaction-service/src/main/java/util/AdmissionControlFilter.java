@@ -0,0 +1,139 @@
+package util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: AdmissionControlFilter
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Provider
+@Priority(Priorities.USER)
+@ApplicationScoped
+public class AdmissionControlFilter implements ContainerRequestFilter, MeterBinder {
+
+    @Inject
+    RoutingContext routingContext;
+
+    @ConfigProperty(name = "pay-stream.admission.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "pay-stream.admission.max-concurrent", defaultValue = "6")
+    int maxConcurrent;
+
+    @ConfigProperty(name = "pay-stream.admission.max-queued", defaultValue = "500")
+    int maxQueued;
+
+    @ConfigProperty(name = "pay-stream.admission.acquire-timeout", defaultValue = "2s")
+    Duration acquireTimeout;
+
+    private Semaphore permits;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Virtual threads make request concurrency effectively unbounded, while the connection pool
+     * is not. Requests past {@code max-concurrent} wait here, in arrival order, rather than piling
+     * up inside Agroal; past {@code max-queued} waiters, or after {@code acquire-timeout}, they get
+     * a 503 so the caller can back off. The permit is held until the response has been written,
+     * which covers the streamed endpoints that keep their transaction open while writing.
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!enabled || !isApiPath(requestContext.getUriInfo().getPath())) {
+            return;
+        }
+        // Reactive endpoints run on the event loop, which must never wait here, and use the reactive
+        // pool rather than Agroal
+        if (!BlockingOperationControl.isBlockingAllowed()) {
+            return;
+        }
+        if (permits.getQueueLength() >= maxQueued || !tryAcquire()) {
+            rejectedCount.incrementAndGet();
+            abortWithUnavailable(requestContext);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        routingContext.addEndHandler(result -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        });
+    }
+
+    // Health, OpenAPI and metrics stay reachable however busy the API is
+    private static boolean isApiPath(String path) {
+        return path.startsWith("api/") || path.startsWith("/api/");
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void abortWithUnavailable(ContainerRequestContext requestContext) {
+        JsonObject error = Json.createObjectBuilder()
+                .add("status", 503)
+                .add("title", "Service Busy")
+                .add("detail", "Too many requests in flight, retry shortly")
+                .build();
+
+        requestContext.abortWith(
+                Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                        .header("Retry-After", Math.max(1, acquireTimeout.toSeconds()))
+                        .entity(error.toString())
+                        .type(MediaType.APPLICATION_JSON)
+                        .build()
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("paystream.admission.in-flight", this, filter -> filter.maxConcurrent - filter.permits.availablePermits())
+                .description("Requests currently admitted")
+                .register(registry);
+        Gauge.builder("paystream.admission.queued", this, filter -> filter.permits.getQueueLength())
+                .description("Requests waiting for admission")
+                .register(registry);
+        FunctionCounter.builder("paystream.admission.rejected", this, filter -> filter.rejectedCount.get())
+                .description("Requests turned away with 503")
+                .register(registry);
+    }
+}
@@ -0,0 +1,138 @@
+package util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: FileSpanExporter
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+@LookupIfProperty(name = "pay-stream.tracing.file-exporter.enabled", stringValue = "true")
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger LOG = Logger.getLogger(FileSpanExporter.class);
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "pay-stream.tracing.file-exporter.path", defaultValue = "target/traces.ndjson")
+    Path path;
+
+    private BufferedWriter writer;
+    // Not synchronized: the writes block on file I/O, which would pin a virtual thread to its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @PostConstruct
+    void init() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open trace file " + path, e);
+        }
+        LOG.infof("Writing spans to %s", path.toAbsolutePath());
+    }
+
+    /**
+     * One JSON object per span and line, so a load-test run can be grepped or loaded into
+     * anything that reads NDJSON without standing up a collector.
+     */
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        lock.lock();
+        try {
+            for (SpanData span : spans) {
+                writeSpan(span);
+                writer.newLine();
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException | UncheckedIOException e) {
+            LOG.warn("Failed to write spans", e);
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeSpan(SpanData span) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        generator.writeStringField("traceId", span.getTraceId());
+        generator.writeStringField("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            generator.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+        generator.writeStringField("name", span.getName());
+        generator.writeStringField("kind", span.getKind().name());
+        generator.writeNumberField("startEpochNanos", span.getStartEpochNanos());
+        generator.writeNumberField("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+        generator.writeStringField("status", span.getStatus().getStatusCode().name());
+        generator.writeObjectFieldStart("attributes");
+        span.getAttributes().forEach((key, value) -> {
+            try {
+                generator.writeStringField(key.getKey(), String.valueOf(value));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        lock.lock();
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        lock.lock();
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package util;
+
+import java.util.Objects;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: Principal
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public record Principal(String tenantId, String userId, String userEmail, RoleSet roles) {
+
+    // Before authentication, and on paths that skip it
+    public static final Principal ANONYMOUS = new Principal(null, null, null, RoleSet.EMPTY);
+
+    // Background work acting for a user outside any request; no roles are checked there
+    public static Principal of(String tenantId, String userId, String userEmail) {
+        return new Principal(tenantId, userId, userEmail, RoleSet.EMPTY);
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    // Whether this principal was built from exactly these header values
+    boolean matches(String tenantId, String userEmail, String rolesHeader) {
+        return this.tenantId.equals(tenantId)
+                && Objects.equals(this.userEmail, userEmail)
+                && Objects.equals(roles.header(), rolesHeader);
+    }
+}
@@ -0,0 +1,99 @@
+package util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: PrincipalResolver
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class PrincipalResolver {
+
+    @Inject
+    AccessDecisionTable accessDecisionTable;
+
+    @ConfigProperty(name = "pay-stream.security.principal-cache-size", defaultValue = "10000")
+    long principalCacheSize;
+
+    @ConfigProperty(name = "pay-stream.security.role-cache-size", defaultValue = "1000")
+    long roleCacheSize;
+
+    // Last principal built for each user id, reused while their headers stay the same
+    private Cache<String, Principal> principals;
+    // Parsed X-User-Roles values; callers send a small number of distinct role strings
+    private Cache<String, RoleSet> roleSets;
+
+    @PostConstruct
+    void init() {
+        principals = Caffeine.newBuilder()
+                .maximumSize(principalCacheSize)
+                .build();
+        roleSets = Caffeine.newBuilder()
+                .maximumSize(roleCacheSize)
+                .build();
+    }
+
+    /**
+     * The principal for these (already validated) header values. A repeat caller sending the same
+     * headers gets the principal built for their first request back: the lookup is by the user id
+     * string and the check is a few equals calls, so nothing is allocated. Any change, such as another
+     * tenant or a new role list, builds a fresh principal that replaces the cached one.
+     */
+    public Principal resolve(String tenantId, String userId, String userEmail, String rolesHeader) {
+        if (rolesHeader != null && rolesHeader.isBlank()) {
+            rolesHeader = null;
+        }
+        Principal cached = principals.getIfPresent(userId);
+        if (cached != null && cached.matches(tenantId, userEmail, rolesHeader)) {
+            return cached;
+        }
+        Principal principal = new Principal(tenantId, userId, userEmail, roleSet(rolesHeader));
+        principals.put(userId, principal);
+        return principal;
+    }
+
+    /**
+     * The principal for a verified token's claims. The roles share the RoleSet cache with the header
+     * path, keyed by the same comma-separated form.
+     */
+    public Principal fromToken(String tenantId, String userId, String userEmail, List<String> roles) {
+        return new Principal(tenantId, userId, userEmail, roleSet(roles.isEmpty() ? null : String.join(",", roles)));
+    }
+
+    private RoleSet roleSet(String rolesHeader) {
+        if (rolesHeader == null) {
+            return RoleSet.EMPTY;
+        }
+        return roleSets.get(rolesHeader, this::parseRoles);
+    }
+
+    // Comma-separated, surrounding whitespace ignored, empty entries dropped
+    private RoleSet parseRoles(String rolesHeader) {
+        Set<String> names = new HashSet<>();
+        int start = 0;
+        while (start <= rolesHeader.length()) {
+            int comma = rolesHeader.indexOf(',', start);
+            int end = comma < 0 ? rolesHeader.length() : comma;
+            String role = rolesHeader.substring(start, end).trim();
+            if (!role.isEmpty()) {
+                names.add(role);
+            }
+            start = end + 1;
+        }
+        return new RoleSet(rolesHeader, Set.copyOf(names), accessDecisionTable.roleMask(names));
+    }
+}
@@ -1,5 +1,8 @@
 package util;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.json.Json;
@@ -14,8 +17,6 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 
 /**
  * Project: pay-stream
@@ -36,41 +37,27 @@ public class RoleBasedAccessControlFilter implements ContainerRequestFilter {
     @Context
     ResourceInfo resourceInfo;
 
-    @Override
-    public void filter(ContainerRequestContext requestContext) throws IOException {
-        // Get the resource method being invoked
-        Method method = resourceInfo.getResourceMethod();
+    @Inject
+    Tracer tracer;
 
-        // Check for role requirements on method
-        RequiresRole methodRoles = method.getAnnotation(RequiresRole.class);
-        if (methodRoles != null && !hasRequiredRoles(methodRoles)) {
-            abortWithForbidden(requestContext);
-            return;
-        }
+    @Inject
+    AccessDecisionTable accessDecisionTable;
 
-        // Check for role requirements on class if method has none
-        if (methodRoles == null) {
-            Class<?> resourceClass = resourceInfo.getResourceClass();
-            RequiresRole classRoles = resourceClass.getAnnotation(RequiresRole.class);
-            if (classRoles != null && !hasRequiredRoles(classRoles)) {
-                abortWithForbidden(requestContext);
-                return;
-            }
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        Span span = tracer.spanBuilder("RoleBasedAccessControlFilter").startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            authorize(requestContext);
+        } finally {
+            span.end();
         }
     }
 
-    private boolean hasRequiredRoles(RequiresRole rolesAnnotation) {
-        String[] requiredRoles = rolesAnnotation.value();
-        boolean allRolesRequired = rolesAnnotation.allOf();
-
-        if (allRolesRequired) {
-            // All roles must be present
-            return Arrays.stream(requiredRoles)
-                    .allMatch(role -> securityContext.hasRole(role));
-        } else {
-            // Any role is sufficient
-            return Arrays.stream(requiredRoles)
-                    .anyMatch(role -> securityContext.hasRole(role));
+    // The requirement was resolved at startup; per request this is a map lookup and a couple of bit ops
+    private void authorize(ContainerRequestContext requestContext) {
+        AccessDecisionTable.Rule rule = accessDecisionTable.ruleFor(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod());
+        if (rule != null && !rule.permits(securityContext.getPrincipal().roles())) {
+            abortWithForbidden(requestContext);
         }
     }
 
@@ -0,0 +1,26 @@
+package util;
+
+import java.util.Set;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: RoleSet
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public record RoleSet(
+        // The X-User-Roles value this set was parsed from; null for no roles
+        String header,
+        Set<String> names,
+        // The names as AccessDecisionTable role ids, for RoleBasedAccessControlFilter
+        long mask) {
+
+    public static final RoleSet EMPTY = new RoleSet(null, Set.of(), 0);
+
+    public boolean contains(String role) {
+        return names.contains(role);
+    }
+}
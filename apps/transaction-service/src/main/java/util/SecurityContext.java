@@ -2,7 +2,6 @@ package util;
 
 import jakarta.enterprise.context.RequestScoped;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -16,35 +15,29 @@ import java.util.Set;
  **/
 @RequestScoped
 public class SecurityContext {
-    private String tenantId;
-    private String userId;
-    private String userEmail;
-    private Set<String> roles = new HashSet<>();
+    // Set once per request by SecurityFilter (or by a worker acting for a job's user), never modified
+    private Principal principal = Principal.ANONYMOUS;
 
-    // Getters and setters
-
-    public String getTenantId() {
-        return tenantId;
+    public Principal getPrincipal() {
+        return principal;
     }
 
-    public void setTenantId(String tenantId) {
-        this.tenantId = tenantId;
+    public void setPrincipal(Principal principal) {
+        this.principal = principal;
     }
 
-    public String getUserId() {return userId;}
-
-    public void  setUserId(String userId) {this.userId = userId;}
-
-    public String getUserEmail(){return userEmail;}
+    public String getTenantId() {
+        return principal.tenantId();
+    }
 
-    public void setUserEmail(String userEmail){this.userEmail = userEmail;}
+    public String getUserId() {return principal.userId();}
 
-    public Set<String> getRoles(){return roles;}
+    public String getUserEmail(){return principal.userEmail();}
 
-    public void setRoles(Set<String> roles){this.roles = roles;}
+    public Set<String> getRoles(){return principal.roles().names();}
 
 
     public boolean hasRole(String role) {
-        return roles.contains(role);
+        return principal.hasRole(role);
     }
 }
@@ -1,5 +1,8 @@
 package util;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -8,14 +11,11 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 /**
  * Project: pay-stream
  * Module: util
@@ -34,13 +34,45 @@ public class SecurityFilter implements ContainerRequestFilter {
     private static final String USER_ID_HEADER = "X-User-ID";
     private static final String USER_EMAIL_HEADER = "X-User-Email";
     private static final String ROLES_HEADER = "X-User-Roles";
+    private static final String BEARER = "Bearer ";
 
 
     @Inject
     SecurityContext securityContext;
 
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    PrincipalResolver principalResolver;
+
+    @Inject
+    TokenVerifier tokenVerifier;
+
     @Override
     public void filter(ContainerRequestContext requestContext) {
+        // The server span is still current here, so the tenant ends up on the request's root span too
+        Span requestSpan = Span.current();
+        Span span = tracer.spanBuilder("SecurityFilter").startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            authenticate(requestContext);
+        } finally {
+            String tenantId = securityContext.getTenantId();
+            if (tenantId != null) {
+                requestSpan.setAttribute(TenantSpanProcessor.TENANT_ID, tenantId);
+                span.setAttribute(TenantSpanProcessor.TENANT_ID, tenantId);
+            }
+            span.end();
+        }
+    }
+
+    /**
+     * Builds the request's principal from a bearer token (see TokenVerifier) or from the identity
+     * headers, and sets it on the SecurityContext in one go. The path is read once; header checks use
+     * isBlank rather than trim, and repeat callers get their cached principal back from
+     * PrincipalResolver, so a normal request allocates nothing here.
+     */
+    private void authenticate(ContainerRequestContext requestContext) {
         // Skip security checks for specific paths
         String path = requestContext.getUriInfo().getPath();
 
@@ -53,44 +85,69 @@ public class SecurityFilter implements ContainerRequestFilter {
         if (requestContext.getMethod().equals("OPTIONS")) {
             return;
         }
+
+        // A bearer token, when token auth is on, carries the whole identity; the headers are ignored
+        if (tokenVerifier.enabled()) {
+            String authorization = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
+            if (authorization != null && authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+                Principal principal = tokenVerifier.verify(authorization.substring(BEARER.length()).trim());
+                if (principal == null) {
+                    abortWithUnauthorized(requestContext, "Invalid or expired bearer token");
+                    return;
+                }
+                securityContext.setPrincipal(principal);
+                return;
+            }
+            if (tokenVerifier.required()) {
+                abortWithUnauthorized(requestContext, "Missing bearer token");
+                return;
+            }
+        }
+
         // Extract tenant ID
         String tenantId = requestContext.getHeaderString(TENANT_HEADER);
-        if (tenantId == null || tenantId.trim().isEmpty()) {
-            abortWithError(requestContext, "Missing required X-Tenant-ID header");
+        if (tenantId == null || tenantId.isBlank()) {
+            abortWithError(requestContext, path, "Missing required X-Tenant-ID header");
             return;
         }
-        securityContext.setTenantId(tenantId);
 
         // Extract user ID
         String userId = requestContext.getHeaderString(USER_ID_HEADER);
-        if (userId == null || userId.trim().isEmpty()) {
-            abortWithError(requestContext, "Missing required X-User-ID header");
+        if (userId == null || userId.isBlank()) {
+            abortWithError(requestContext, path, "Missing required X-User-ID header");
             return;
         }
-        securityContext.setUserId(userId);
-
-        // Extract user email (optional)
-        String userEmail = requestContext.getHeaderString(USER_EMAIL_HEADER);
-        securityContext.setUserEmail(userEmail);
-
-        // Extract roles
-        String rolesHeader = requestContext.getHeaderString(ROLES_HEADER);
-        if (rolesHeader != null && !rolesHeader.trim().isEmpty()) {
-            // Assuming roles are comma-separated
-            Set<String> roles = Arrays.stream(rolesHeader.split(","))
-                    .map(String::trim)
-                    .collect(Collectors.toSet());
-            securityContext.setRoles(roles);
-        }
 
+        // User email is optional; roles are comma-separated
+        securityContext.setPrincipal(principalResolver.resolve(
+                tenantId,
+                userId,
+                requestContext.getHeaderString(USER_EMAIL_HEADER),
+                requestContext.getHeaderString(ROLES_HEADER)));
+    }
+
+    private void abortWithUnauthorized(ContainerRequestContext requestContext, String message) {
+        JsonObject error = Json.createObjectBuilder()
+                .add("status", 401)
+                .add("title", "Authentication Error")
+                .add("detail", message)
+                .build();
+
+        requestContext.abortWith(
+                Response.status(Response.Status.UNAUTHORIZED)
+                        .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                        .entity(error.toString())
+                        .type(MediaType.APPLICATION_JSON)
+                        .build()
+        );
     }
 
-    private void abortWithError(ContainerRequestContext requestContext, String message) {
+    private void abortWithError(ContainerRequestContext requestContext, String path, String message) {
 
         // Exclude OPTIONS requests (CORS) and Swagger
         if (requestContext.getMethod().equals("OPTIONS") ||
-                requestContext.getUriInfo().getPath().startsWith("swagger") ||
-                requestContext.getUriInfo().getPath().startsWith("openapi")) {
+                path.startsWith("swagger") ||
+                path.startsWith("openapi")) {
             return;
         }
 
@@ -0,0 +1,50 @@
+package util;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: StreamedBodyLimitFilter
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@Provider
+@Priority(Priorities.USER)
+public class StreamedBodyLimitFilter implements ContainerRequestFilter {
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Inject
+    RoutingContext routingContext;
+
+    @ConfigProperty(name = "pay-stream.ingest.max-body-size", defaultValue = "2G")
+    MemorySize maxBodySize;
+
+    /**
+     * quarkus.http.limits.max-body-size stays at its default for every other endpoint. Methods marked
+     * {@link StreamedBody} read their body as a stream, line by line, so they get the larger ingest
+     * limit instead. It applies to chunked uploads; a declared Content-Length is checked against the
+     * global limit before any filter runs, so large files must be sent chunked.
+     */
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (resourceInfo.getResourceMethod().isAnnotationPresent(StreamedBody.class)) {
+            routingContext.put(VertxHttpRecorder.MAX_REQUEST_SIZE_KEY, maxBodySize.asLongValue());
+        }
+    }
+}
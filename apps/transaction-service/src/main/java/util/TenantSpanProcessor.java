@@ -0,0 +1,55 @@
+package util;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.arc.Arc;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: TenantSpanProcessor
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+public class TenantSpanProcessor implements SpanProcessor {
+
+    public static final AttributeKey<String> TENANT_ID = AttributeKey.stringKey("tenant.id");
+
+    @Inject
+    SecurityContext securityContext;
+
+    // Tags every span started while a tenant is known: service methods, audit writes and JDBC
+    // statements alike. Bulk job workers activate their own request context, so they are covered too
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        if (!Arc.container().requestContext().isActive()) {
+            return;
+        }
+        String tenantId = securityContext.getTenantId();
+        if (tenantId != null) {
+            span.setAttribute(TENANT_ID, tenantId);
+        }
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return false;
+    }
+}
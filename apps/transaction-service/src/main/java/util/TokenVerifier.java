@@ -0,0 +1,210 @@
+package util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.runtime.Startup;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jose4j.jwa.AlgorithmConstraints;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.MalformedClaimException;
+import org.jose4j.jwt.consumer.InvalidJwtException;
+import org.jose4j.jwt.consumer.JwtConsumer;
+import org.jose4j.jwt.consumer.JwtConsumerBuilder;
+import org.jose4j.keys.resolvers.JwksVerificationKeyResolver;
+import org.jose4j.lang.JoseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: TokenVerifier
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@ApplicationScoped
+@Startup
+public class TokenVerifier {
+
+    private static final Logger LOG = Logger.getLogger(TokenVerifier.class);
+
+    private static final String VERIFICATION = "paystream.auth.token.verification";
+    private static final String TENANT_CLAIM = "tenant_id";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLES_CLAIM = "roles";
+
+    // A verified token's principal, good until the token's exp
+    private record VerifiedToken(Principal principal, long expiresAtMillis) {}
+
+    @Inject
+    PrincipalResolver principalResolver;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.required", defaultValue = "false")
+    boolean required;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.jwks-path", defaultValue = "config/jwks.json")
+    Path jwksPath;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.issuer", defaultValue = "pay-stream")
+    String issuer;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.audience", defaultValue = "pay-stream")
+    String audience;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.clock-skew", defaultValue = "30s")
+    Duration clockSkew;
+
+    @ConfigProperty(name = "pay-stream.auth.jwt.cache-size", defaultValue = "10000")
+    long cacheSize;
+
+    private JwtConsumer jwtConsumer;
+    private Cache<String, VerifiedToken> verified;
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    /**
+     * Keys are read once; rotating them means updating the JWKS file and restarting. A missing or
+     * unreadable file fails startup rather than leaving token auth silently broken.
+     */
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        JsonWebKeySet keys;
+        try {
+            keys = new JsonWebKeySet(Files.readString(jwksPath));
+        } catch (IOException | JoseException e) {
+            throw new IllegalStateException("Cannot load JWKS from " + jwksPath, e);
+        }
+        jwtConsumer = new JwtConsumerBuilder()
+                .setVerificationKeyResolver(new JwksVerificationKeyResolver(keys.getJsonWebKeys()))
+                .setJwsAlgorithmConstraints(AlgorithmConstraints.ConstraintType.PERMIT,
+                        AlgorithmIdentifiers.RSA_USING_SHA256, AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256)
+                .setRequireExpirationTime()
+                .setRequireSubject()
+                .setAllowedClockSkewInSeconds((int) clockSkew.toSeconds())
+                .setExpectedIssuer(issuer)
+                .setExpectedAudience(audience)
+                .build();
+        LOG.infof("Token authentication enabled with %d key(s) from %s", keys.getJsonWebKeys().size(), jwksPath);
+
+        // Each entry lives exactly as long as its token, so an expired token is never served from the cache
+        verified = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.ofMillis(token.expiresAtMillis() - System.currentTimeMillis()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, verified, "auth-tokens", Tags.empty());
+
+        cachedTimer = verificationTimer("cached");
+        verifiedTimer = verificationTimer("verified");
+        rejectedTimer = verificationTimer("rejected");
+    }
+
+    // Per-request cost of token authentication: a cache hit, a full signature check, or a rejection
+    private Timer verificationTimer(String outcome) {
+        return Timer.builder(VERIFICATION)
+                .description("Time spent authenticating a bearer token")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    // When set, requests without a bearer token are refused instead of falling back to the identity headers
+    public boolean required() {
+        return enabled && required;
+    }
+
+    /**
+     * The principal a bearer token stands for, or null when it is malformed, badly signed, expired
+     * or missing a claim. Tokens are cached by their SHA-256 only once verified, so a repeat call
+     * costs a hash and a lookup; rejected tokens are never cached.
+     */
+    public Principal verify(String token) {
+        long start = System.nanoTime();
+        String key = hash(token);
+        VerifiedToken cached = verified.getIfPresent(key);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached.principal();
+        }
+
+        try {
+            JwtClaims claims = jwtConsumer.processToClaims(token);
+            String tenantId = claims.getStringClaimValue(TENANT_CLAIM);
+            if (tenantId == null || tenantId.isBlank()) {
+                throw new MalformedClaimException("Missing " + TENANT_CLAIM + " claim");
+            }
+            List<String> roles = claims.hasClaim(ROLES_CLAIM) ? claims.getStringListClaimValue(ROLES_CLAIM) : List.of();
+            Principal principal = principalResolver.fromToken(
+                    tenantId, claims.getSubject(), claims.getStringClaimValue(EMAIL_CLAIM), roles);
+
+            verified.put(key, new VerifiedToken(principal, claims.getExpirationTime().getValueInMillis()));
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return principal;
+        } catch (InvalidJwtException | MalformedClaimException e) {
+            LOG.debugf("Rejected bearer token: %s", e.getMessage());
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+-- Baseline schema for pay-stream.
+-- Written with IF NOT EXISTS so it also adopts databases that were previously
+-- created by quarkus.hibernate-orm.database.generation=update.
+
+create sequence if not exists banks_seq start with 1 increment by 50;
+create sequence if not exists transactions_seq start with 1 increment by 50;
+create sequence if not exists audit_logs_seq start with 1 increment by 50;
+create sequence if not exists audit_outbox_seq start with 1 increment by 50;
+
+create table if not exists banks (
+    id            bigint       not null primary key,
+    tenant_id     varchar(255) not null,
+    name          varchar(255) not null,
+    branch_code   varchar(20)  not null unique,
+    address       varchar(255),
+    contact_phone varchar(255),
+    contact_email varchar(255),
+    is_active     boolean      not null,
+    constraint unique_branch_code_per_tenant unique (branch_code, tenant_id)
+);
+
+create table if not exists transactions (
+    id               bigint         not null primary key,
+    tenant_id        varchar(255)   not null,
+    account_name     varchar(255)   not null,
+    account_number   varchar(255)   not null,
+    bank_id          bigint         not null references banks (id),
+    currency         varchar(255)   not null,
+    amount           numeric(38, 2) not null,
+    exchange_rate    numeric(38, 2),
+    status           varchar(255)   not null
+        check (status in ('PENDING_APPROVAL', 'APPROVED', 'REJECTED', 'SUBMITTED', 'COMPLETED', 'FAILED')),
+    batch_id         varchar(255),
+    created_by       varchar(255)   not null,
+    approved_by      varchar(255),
+    rejected_by      varchar(255),
+    approval_notes   varchar(255),
+    rejection_reason varchar(255),
+    approved_at      timestamp(6),
+    rejected_at      timestamp(6),
+    created_at       timestamp(6)   not null,
+    updated_at       timestamp(6)
+);
+
+create table if not exists audit_logs (
+    id          bigint       not null primary key,
+    tenant_id   varchar(255) not null,
+    entity_type varchar(255) not null,
+    entity_id   bigint,
+    action      varchar(255) not null,
+    user_id     varchar(255),
+    timestamp   timestamp(6) not null,
+    details     text
+);
+
+create table if not exists audit_outbox (
+    id          bigint       not null primary key,
+    tenant_id   varchar(255) not null,
+    entity_type varchar(255) not null,
+    entity_id   bigint,
+    action      varchar(255) not null,
+    user_id     varchar(255),
+    timestamp   timestamp(6) not null,
+    details     text
+);
+
+-- Batch-level audit events have no single entity id
+alter table audit_logs alter column entity_id drop not null;
+
+-- Adopted tables already hold ids from Hibernate's old implicit sequences. Move the new
+-- sequences past them; with the pooled optimizer the value returned is the top of the block.
+select setval('banks_seq', max(id) + 50, false) from banks having max(id) is not null;
+select setval('transactions_seq', max(id) + 50, false) from transactions having max(id) is not null;
+select setval('audit_logs_seq', max(id) + 50, false) from audit_logs having max(id) is not null;
+select setval('audit_outbox_seq', max(id) + 50, false) from audit_outbox having max(id) is not null;
@@ -0,0 +1,22 @@
+-- Composite indexes matching the tenant-scoped repository access paths.
+-- Built concurrently so existing deployments keep taking writes (see the .conf file).
+
+-- findByStatus, listing filtered by status, keyset order (created_at, id)
+create index concurrently if not exists idx_transactions_tenant_status_created
+    on transactions (tenant_id, status, created_at, id);
+
+-- unfiltered listing, keyset order (created_at, id)
+create index concurrently if not exists idx_transactions_tenant_created
+    on transactions (tenant_id, created_at, id);
+
+-- findByBatchId, batch approve/reject
+create index concurrently if not exists idx_transactions_tenant_batch
+    on transactions (tenant_id, batch_id);
+
+-- audit trail lookups per entity
+create index concurrently if not exists idx_audit_logs_tenant_entity
+    on audit_logs (tenant_id, entity_type, entity_id);
+
+-- findByBranchCode, findByBranchCodes
+create index concurrently if not exists idx_banks_tenant_branch_code
+    on banks (tenant_id, branch_code);
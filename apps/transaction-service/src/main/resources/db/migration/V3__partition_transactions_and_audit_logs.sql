@@ -0,0 +1,49 @@
+-- Convert transactions and audit_logs into tables range-partitioned by month on
+-- created_at / timestamp. Existing rows stay where they are: the old table is attached
+-- as a single partition covering everything before next month. Monthly partitions from
+-- next month on are created (and expired ones detached) by service.PartitionManager.
+
+-- transactions
+
+alter table transactions rename to transactions_legacy;
+alter index if exists idx_transactions_tenant_status_created rename to idx_transactions_legacy_tenant_status_created;
+alter index if exists idx_transactions_tenant_created rename to idx_transactions_legacy_tenant_created;
+alter index if exists idx_transactions_tenant_batch rename to idx_transactions_legacy_tenant_batch;
+
+create table transactions (like transactions_legacy including defaults including constraints)
+    partition by range (created_at);
+
+-- The partition key has to be part of the primary key
+alter table transactions add constraint transactions_pkey_partitioned primary key (id, created_at);
+alter table transactions add constraint fk_transactions_bank foreign key (bank_id) references banks (id);
+
+-- audit_logs
+
+alter table audit_logs rename to audit_logs_legacy;
+alter index if exists idx_audit_logs_tenant_entity rename to idx_audit_logs_legacy_tenant_entity;
+
+create table audit_logs (like audit_logs_legacy including defaults including constraints)
+    partition by range (timestamp);
+
+alter table audit_logs add constraint audit_logs_pkey_partitioned primary key (id, timestamp);
+
+-- Attach the old tables. The CHECK constraints let ATTACH skip its own validation scan.
+
+do $$
+declare
+    boundary timestamp := date_trunc('month', now()) + interval '1 month';
+begin
+    execute format('alter table transactions_legacy add constraint transactions_legacy_bounds check (created_at < %L)', boundary);
+    execute format('alter table transactions attach partition transactions_legacy for values from (minvalue) to (%L)', boundary);
+
+    execute format('alter table audit_logs_legacy add constraint audit_logs_legacy_bounds check (timestamp < %L)', boundary);
+    execute format('alter table audit_logs attach partition audit_logs_legacy for values from (minvalue) to (%L)', boundary);
+end $$;
+
+-- Indexes on the partitioned parents. Matching indexes already on the legacy
+-- partitions are attached rather than rebuilt.
+
+create index idx_transactions_tenant_status_created on transactions (tenant_id, status, created_at, id);
+create index idx_transactions_tenant_created on transactions (tenant_id, created_at, id);
+create index idx_transactions_tenant_batch on transactions (tenant_id, batch_id);
+create index idx_audit_logs_tenant_entity on audit_logs (tenant_id, entity_type, entity_id);
@@ -0,0 +1,29 @@
+-- Persistent state for asynchronous bulk create and batch approve/reject jobs.
+-- Progress is committed together with each chunk of work, so a job interrupted by a
+-- restart is resumed from processed_count + failed_count rather than started over.
+
+create sequence if not exists bulk_jobs_seq start with 1 increment by 50;
+
+create table bulk_jobs (
+    id              bigint       not null primary key,
+    tenant_id       varchar(255) not null,
+    job_type        varchar(255) not null
+        check (job_type in ('BULK_CREATE', 'BATCH_APPROVE', 'BATCH_REJECT')),
+    status          varchar(255) not null
+        check (status in ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    batch_id        varchar(255) not null,
+    user_id         varchar(255) not null,
+    user_email      varchar(255),
+    payload         text         not null,
+    total_count     bigint       not null,
+    processed_count bigint       not null,
+    failed_count    bigint       not null,
+    attempts        integer      not null,
+    error_message   text,
+    created_at      timestamp(6) not null,
+    started_at      timestamp(6),
+    completed_at    timestamp(6),
+    updated_at      timestamp(6) not null
+);
+
+create index idx_bulk_jobs_status_updated on bulk_jobs (status, updated_at);
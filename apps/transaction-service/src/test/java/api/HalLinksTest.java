@@ -0,0 +1,32 @@
+package api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: HalLinksTest
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+class HalLinksTest {
+
+    @Test
+    void generatedBatchIdIsUsedAsIs() {
+        String batchId = "5b1f0c1e-8a51-4d4e-9d2a-2f6f1c7e9a10";
+
+        assertSame(batchId, HalLinks.pathSegment(batchId));
+    }
+
+    @Test
+    void batchIdFromThePathIsEncodedAsOneSegment() {
+        // What {batchId} decodes to for /batch/a%2F..%3Fx%3D1%20%23y
+        assertEquals("a%2F..%3Fx%3D1%20%23y", HalLinks.pathSegment("a/..?x=1 #y"));
+        assertEquals("%C3%A9t%C3%A9", HalLinks.pathSegment("été"));
+    }
+}
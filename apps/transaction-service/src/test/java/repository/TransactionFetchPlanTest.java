@@ -0,0 +1,133 @@
+package repository;
+
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import models.Bank;
+import models.Money;
+import models.Transaction;
+import models.TransactionStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import util.EmbeddedPostgresResource;
+import util.Principal;
+import util.SecurityContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Project: pay-stream
+ * Module: repository
+ * File: TransactionFetchPlanTest
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@QuarkusTest
+@QuarkusTestResource(EmbeddedPostgresResource.class)
+class TransactionFetchPlanTest {
+
+    private static final String TENANT_ID = "fetch-plan-tenant";
+    private static final int BANKS = 3;
+    private static final int TRANSACTIONS_PER_BANK = 4;
+
+    @Inject
+    ITransactionRepository transactionRepository;
+
+    @Inject
+    SecurityContext securityContext;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    @TestTransaction
+    @ActivateRequestContext
+    void batchReadIsOneStatementWhateverTheNumberOfBanks() {
+        String batchId = seedBatch();
+        Statistics statistics = freshStatistics();
+
+        List<Transaction> transactions = transactionRepository.findByBatchId(batchId);
+        transactions.forEach(transaction -> transaction.getBank().getName());
+
+        assertEquals(BANKS * TRANSACTIONS_PER_BANK, transactions.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @TestTransaction
+    @ActivateRequestContext
+    void statusReadIsOneStatementWhateverTheNumberOfBanks() {
+        seedBatch();
+        Statistics statistics = freshStatistics();
+
+        List<Transaction> transactions = transactionRepository.findByStatus(TransactionStatus.PENDING_APPROVAL);
+        transactions.forEach(transaction -> transaction.getBank().getName());
+
+        assertEquals(BANKS * TRANSACTIONS_PER_BANK, transactions.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @TestTransaction
+    @ActivateRequestContext
+    void singleReadIsOneStatement() {
+        String batchId = seedBatch();
+        Long id = transactionRepository.findByBatchId(batchId).get(0).id;
+        entityManager.clear();
+        Statistics statistics = freshStatistics();
+
+        Transaction transaction = transactionRepository.findByIdOptional(id).orElseThrow();
+        transaction.getBank().getName();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    // Several banks, so a lazy bank loaded per row would show up as extra statements
+    private String seedBatch() {
+        securityContext.setPrincipal(Principal.of(TENANT_ID, "fetch-plan-user", "fetch-plan@example.com"));
+        String batchId = UUID.randomUUID().toString();
+        for (int b = 0; b < BANKS; b++) {
+            Bank bank = new Bank();
+            bank.setTenantId(TENANT_ID);
+            bank.setName("Bank " + b);
+            bank.setBranchCode("FP-" + b + "-" + batchId.substring(0, 8));
+            bank.setAddress("1 Test Street");
+            bank.setContactPhone("+263000000000");
+            bank.setContactEmail("bank" + b + "@example.com");
+            entityManager.persist(bank);
+
+            for (int t = 0; t < TRANSACTIONS_PER_BANK; t++) {
+                Transaction transaction = new Transaction();
+                transaction.tenantId = TENANT_ID;
+                transaction.setAccountName("Account " + b + "-" + t);
+                transaction.setAccountNumber("00" + b + t);
+                transaction.setBank(bank);
+                transaction.setMoney(new Money("USD", new BigDecimal("10.00"), BigDecimal.ONE));
+                transaction.setBatchId(batchId);
+                transaction.setCreatedBy("fetch-plan-user");
+                entityManager.persist(transaction);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return batchId;
+    }
+
+    // Banks are in the second-level cache, which would hide a per-row bank select; start cold
+    private Statistics freshStatistics() {
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
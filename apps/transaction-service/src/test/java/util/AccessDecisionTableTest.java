@@ -0,0 +1,87 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: AccessDecisionTableTest
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+class AccessDecisionTableTest {
+
+    private static final RoleSet VIEWER = new RoleSet("TRANSACTION_VIEWER", Set.of("TRANSACTION_VIEWER"), 0);
+    private static final RoleSet ADMIN = new RoleSet("ADMIN", Set.of("ADMIN"), 0);
+
+    @Test
+    void methodMissedAtStartupIsStillRoleChecked() throws NoSuchMethodException {
+        // Nothing indexed, as when discovery misses a resource
+        AccessDecisionTable table = AccessDecisionTable.of();
+        Method administer = Unindexed.class.getDeclaredMethod("administer");
+
+        AccessDecisionTable.Rule rule = table.ruleFor(Unindexed.class, administer);
+
+        assertNotNull(rule);
+        assertFalse(rule.permits(VIEWER));
+        assertTrue(rule.permits(ADMIN));
+    }
+
+    @Test
+    void missedMethodFallsBackToTheClassRequirement() throws NoSuchMethodException {
+        AccessDecisionTable table = AccessDecisionTable.of();
+        Method list = Unindexed.class.getDeclaredMethod("list");
+
+        AccessDecisionTable.Rule rule = table.ruleFor(Unindexed.class, list);
+
+        assertNotNull(rule);
+        assertFalse(rule.permits(RoleSet.EMPTY));
+        assertTrue(rule.permits(VIEWER));
+    }
+
+    @Test
+    void missedMethodWithoutRequirementIsOpen() throws NoSuchMethodException {
+        AccessDecisionTable table = AccessDecisionTable.of();
+        Method ping = Open.class.getDeclaredMethod("ping");
+
+        assertNull(table.ruleFor(Open.class, ping));
+    }
+
+    @Test
+    void indexedRuleChecksTheRoleMask() throws NoSuchMethodException {
+        AccessDecisionTable table = AccessDecisionTable.of(Unindexed.class);
+        Method administer = Unindexed.class.getDeclaredMethod("administer");
+        RoleSet admin = new RoleSet("ADMIN", Set.of("ADMIN"), table.roleMask(Set.of("ADMIN")));
+        RoleSet viewer = new RoleSet("TRANSACTION_VIEWER", Set.of("TRANSACTION_VIEWER"), table.roleMask(Set.of("TRANSACTION_VIEWER")));
+
+        AccessDecisionTable.Rule rule = table.ruleFor(Unindexed.class, administer);
+
+        assertTrue(rule.permits(admin));
+        assertFalse(rule.permits(viewer));
+    }
+
+    @RequiresRole({"TRANSACTION_VIEWER", "ADMIN"})
+    private static class Unindexed {
+        @RequiresRole("ADMIN")
+        void administer() {
+        }
+
+        void list() {
+        }
+    }
+
+    private static class Open {
+        void ping() {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package util;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: EmbeddedPostgresResource
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public class EmbeddedPostgresResource implements QuarkusTestResourceLifecycleManager {
+
+    private EmbeddedPostgres database;
+
+    /**
+     * Starts a throwaway PostgreSQL and points both datasources at it; Flyway builds the schema on
+     * startup. The scheduler is off so the job poller and partition maintenance don't run queries
+     * in the middle of a test.
+     */
+    @Override
+    public Map<String, String> start() {
+        try {
+            database = EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+        }
+        String jdbcUrl = database.getJdbcUrl("postgres", "postgres");
+        return Map.of(
+                "quarkus.datasource.jdbc.url", jdbcUrl,
+                "quarkus.datasource.reactive.url", jdbcUrl.substring("jdbc:".length()),
+                "quarkus.datasource.username", "postgres",
+                "quarkus.datasource.password", "postgres",
+                "quarkus.scheduler.enabled", "false",
+                "quarkus.otel.sdk.disabled", "true",
+                "quarkus.hibernate-orm.log.sql", "false");
+    }
+
+    @Override
+    public void stop() {
+        if (database == null) {
+            return;
+        }
+        try {
+            database.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stop embedded PostgreSQL", e);
+        }
+    }
+}
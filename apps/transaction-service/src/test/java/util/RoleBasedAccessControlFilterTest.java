@@ -0,0 +1,54 @@
+package util;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: RoleBasedAccessControlFilterTest
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@QuarkusTest
+@QuarkusTestResource(EmbeddedPostgresResource.class)
+class RoleBasedAccessControlFilterTest {
+
+    // GET /api/v1/banks/cache/stats is @RequiresRole("ADMIN")
+
+    @Test
+    void callerWithoutTheRoleIsForbidden() {
+        given()
+                .header("X-Tenant-ID", "rbac-tenant")
+                .header("X-User-ID", "rbac-user")
+                .header("X-User-Email", "rbac@example.com")
+                .header("X-User-Roles", "TRANSACTION_VIEWER")
+                .when().get("/api/v1/banks/cache/stats")
+                .then().statusCode(403);
+    }
+
+    @Test
+    void callerWithNoRolesIsForbidden() {
+        given()
+                .header("X-Tenant-ID", "rbac-tenant")
+                .header("X-User-ID", "rbac-user")
+                .when().get("/api/v1/banks/cache/stats")
+                .then().statusCode(403);
+    }
+
+    @Test
+    void callerWithTheRoleIsAllowed() {
+        given()
+                .header("X-Tenant-ID", "rbac-tenant")
+                .header("X-User-ID", "rbac-admin")
+                .header("X-User-Email", "admin@example.com")
+                .header("X-User-Roles", "ADMIN")
+                .when().get("/api/v1/banks/cache/stats")
+                .then().statusCode(200);
+    }
+}
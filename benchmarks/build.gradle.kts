@@ -0,0 +1,62 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+val quarkusPlatformGroupId: String by project
+val quarkusPlatformArtifactId: String by project
+val quarkusPlatformVersion: String by project
+
+dependencies {
+    jmh(enforcedPlatform("${quarkusPlatformGroupId}:${quarkusPlatformArtifactId}:${quarkusPlatformVersion}"))
+    jmh(project(":apps:transaction-service"))
+
+    // Compile-time APIs of the classes under test; the service brings the implementations at runtime
+    jmh("io.quarkus:quarkus-hibernate-orm-panache")
+    jmh("jakarta.ws.rs:jakarta.ws.rs-api")
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    jmh("io.opentelemetry:opentelemetry-api")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+    options.compilerArgs.add("-parameters")
+}
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    timeUnit.set("ns")
+    benchmarkMode.set(listOf("avgt"))
+    // Allocation per op alongside the timings; a new object on a hot path shows up here first
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // ./gradlew :benchmarks:jmh -Pjmh.includes=HalLinks runs a subset
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+}
+
+// Keeps one results file per commit under benchmarks/results, so two runs can be diffed with
+// any JSON diff tool (or loaded side by side into jmh.morethan.io)
+val gitRevision = providers.exec {
+    commandLine("git", "rev-parse", "--short", "HEAD")
+}.standardOutput.asText.map { it.trim() }
+
+tasks.register<Copy>("archiveJmhResults") {
+    description = "Copies the latest JMH results to benchmarks/results/<commit>.json"
+    from(layout.buildDirectory.file("results/jmh/results.json"))
+    into(layout.projectDirectory.dir("results"))
+    rename { "${gitRevision.get()}.json" }
+}
+
+tasks.named("jmh") {
+    finalizedBy("archiveJmhResults")
+}
@@ -0,0 +1,164 @@
+package api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dto.TransactionPage;
+import dto.TransactionResponseDTO;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.UriInfo;
+import models.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: api
+ * File: HalLinksBenchmark
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@State(Scope.Benchmark)
+public class HalLinksBenchmark {
+
+    @Param({"50", "200"})
+    int pageSize;
+
+    private UriInfo uriInfo;
+    private ObjectMapper objectMapper;
+    private List<TransactionResponseDTO> rows;
+
+    @Setup
+    public void setUp() {
+        URI baseUri = URI.create("http://localhost:8080/");
+        uriInfo = (UriInfo) Proxy.newProxyInstance(
+                HalLinksBenchmark.class.getClassLoader(),
+                new Class<?>[]{UriInfo.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getBaseUri")) {
+                        return baseUri;
+                    }
+                    // Resolved through the RuntimeDelegate the service's REST runtime registers
+                    if (method.getName().equals("getBaseUriBuilder")) {
+                        return UriBuilder.fromUri(baseUri);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        rows = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= pageSize; id++) {
+            rows.add(new TransactionResponseDTO(id, "Tendai Moyo", "0123456789",
+                    7L, "CBZ Bank", "CBZ-001", "Harare", null, null, true,
+                    "USD", new BigDecimal("1250.75"), BigDecimal.ONE,
+                    TransactionStatus.PENDING_APPROVAL, "5b1f0c1e-8a51-4d4e-9d2a-2f6f1c7e9a10", "user-1",
+                    null, null, null, null, now, null, null, now));
+        }
+    }
+
+    // Links for one page, the way TransactionResource builds them per request
+    @Benchmark
+    public List<Map<String, String>> pageLinks() {
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
+        List<Map<String, String>> links = new ArrayList<>(rows.size());
+        for (TransactionResponseDTO row : rows) {
+            links.add(halLinks.transactionLinks(row.getId(), row.getBatchId(), true));
+        }
+        return links;
+    }
+
+    // The same links built the way the endpoints did before HalLinks: a UriBuilder chain per link
+    @Benchmark
+    public List<Map<String, String>> pageLinksUriBuilder() {
+        List<Map<String, String>> links = new ArrayList<>(rows.size());
+        for (TransactionResponseDTO row : rows) {
+            Map<String, String> itemLinks = new HashMap<>();
+            String self = uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .path(String.valueOf(row.getId()))
+                    .build().toString();
+            itemLinks.put("self", self);
+            itemLinks.put("update", uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .path(String.valueOf(row.getId()))
+                    .build().toString());
+            itemLinks.put("delete", uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .path(String.valueOf(row.getId()))
+                    .build().toString());
+            itemLinks.put("approve", uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .path(String.valueOf(row.getId()))
+                    .path("approve")
+                    .build().toString());
+            itemLinks.put("reject", uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .path(String.valueOf(row.getId()))
+                    .path("reject")
+                    .build().toString());
+            itemLinks.put("collection", uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .build().toString());
+            itemLinks.put("batch", uriInfo.getBaseUriBuilder()
+                    .path(TransactionResource.class)
+                    .path("batch")
+                    .path(row.getBatchId())
+                    .build().toString());
+            links.add(itemLinks);
+        }
+        return links;
+    }
+
+    /*
+     * The two serialize variants go through a plain ObjectMapper, i.e. Jackson's reflective bean
+     * serializers for both. They compare the payload shapes only. The build-time serializers
+     * quarkus-rest generates for the typed records exist only inside the packaged service, so
+     * their effect is measured with the load test, not here.
+     */
+
+    // The typed page record the listing endpoint returns
+    @Benchmark
+    public byte[] serializeTypedPage() throws Exception {
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
+        List<TransactionPage.Item> items = new ArrayList<>(rows.size());
+        for (TransactionResponseDTO row : rows) {
+            items.add(new TransactionPage.Item(row, halLinks.transactionLinks(row.getId(), row.getBatchId(), true)));
+        }
+        TransactionPage page = new TransactionPage(items, items.size(), null, null, pageSize, null,
+                Map.of("self", halLinks.transactions()));
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    // The same payload as nested HashMaps, the shape the endpoints returned before the page records
+    @Benchmark
+    public byte[] serializeMapPage() throws Exception {
+        HalLinks halLinks = HalLinks.forRequest(uriInfo);
+        List<Map<String, Object>> items = new ArrayList<>(rows.size());
+        for (TransactionResponseDTO row : rows) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("transaction", row);
+            item.put("_links", new HashMap<>(halLinks.transactionLinks(row.getId(), row.getBatchId(), true)));
+            items.add(item);
+        }
+        Map<String, Object> page = new HashMap<>();
+        page.put("transactions", items);
+        page.put("count", items.size());
+        page.put("limit", pageSize);
+        page.put("_links", Map.of("self", halLinks.transactions()));
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
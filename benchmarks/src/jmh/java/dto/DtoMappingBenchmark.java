@@ -0,0 +1,62 @@
+package dto;
+
+import models.Bank;
+import models.Transaction;
+import models.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Project: pay-stream
+ * Module: dto
+ * File: DtoMappingBenchmark
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private TransactionRequestDTO request;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        request = new TransactionRequestDTO();
+        request.setAccountName("Tendai Moyo");
+        request.setAccountNumber("0123456789");
+        request.setBankBranchCode("CBZ-001");
+        request.setCurrency("USD");
+        request.setAmount(new BigDecimal("1250.75"));
+        request.setExchangeRate(new BigDecimal("1.0"));
+
+        Bank bank = new Bank();
+        bank.id = 7L;
+        bank.setTenantId("tenant-a");
+        bank.setName("CBZ Bank");
+        bank.setBranchCode("CBZ-001");
+        bank.setAddress("Harare");
+
+        transaction = request.toEntity();
+        transaction.id = 42L;
+        transaction.setBank(bank);
+        transaction.setStatus(TransactionStatus.PENDING_APPROVAL);
+        transaction.setBatchId("5b1f0c1e-8a51-4d4e-9d2a-2f6f1c7e9a10");
+        transaction.setCreatedBy("user-1");
+    }
+
+    @Benchmark
+    public Transaction toEntity() {
+        return request.toEntity();
+    }
+
+    @Benchmark
+    public TransactionResponseDTO toResponse() {
+        return new TransactionResponseDTO(transaction);
+    }
+}
@@ -0,0 +1,67 @@
+package service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dto.ApprovalRequestDTO;
+import dto.TransactionRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: AuditDetailsSerializationBenchmark
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@State(Scope.Benchmark)
+public class AuditDetailsSerializationBenchmark {
+
+    private AuditService auditService;
+    private TransactionRequestDTO createDetails;
+    private ApprovalRequestDTO approvalDetails;
+    private Object batchDetails;
+
+    @Setup
+    public void setUp() {
+        auditService = new AuditService();
+        auditService.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        createDetails = new TransactionRequestDTO();
+        createDetails.setAccountName("Tendai Moyo");
+        createDetails.setAccountNumber("0123456789");
+        createDetails.setBankBranchCode("CBZ-001");
+        createDetails.setCurrency("USD");
+        createDetails.setAmount(new BigDecimal("1250.75"));
+
+        approvalDetails = new ApprovalRequestDTO();
+        approvalDetails.setNotes("Checked against the supplier invoice");
+
+        // Same anonymous-class shape TransactionService logs for batch events
+        batchDetails = new Object() {
+            public final String batchIdentifier = "5b1f0c1e-8a51-4d4e-9d2a-2f6f1c7e9a10";
+            public final int count = 1000;
+        };
+    }
+
+    @Benchmark
+    public String createEvent() {
+        return auditService.serializeDetails(createDetails);
+    }
+
+    @Benchmark
+    public String approveEvent() {
+        return auditService.serializeDetails(approvalDetails);
+    }
+
+    @Benchmark
+    public String batchEvent() {
+        return auditService.serializeDetails(batchDetails);
+    }
+}
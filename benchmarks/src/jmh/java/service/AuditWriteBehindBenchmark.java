@@ -0,0 +1,74 @@
+package service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dto.TransactionRequestDTO;
+import models.AuditLog;
+import models.AuditOutbox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Project: pay-stream
+ * Module: service
+ * File: AuditWriteBehindBenchmark
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@State(Scope.Benchmark)
+public class AuditWriteBehindBenchmark {
+
+    /*
+     * What one audit event costs the request thread in each mode. Both serialize the details and
+     * build one row for the business transaction, since the event has to be durable at commit;
+     * write-behind adds only the queue slot. Where the modes differ is the insert itself: an
+     * audit_outbox row has just its primary key to maintain, an audit_logs row goes into a
+     * partitioned table with a secondary index. That, and the drainer's batched copy and delete,
+     * need the load test (AUDIT_MODE=sync vs write-behind) to measure.
+     */
+
+    private static final String TENANT_ID = "tenant-1";
+    private static final String USER_ID = "user-1";
+
+    private ObjectMapper objectMapper;
+    private Semaphore slots;
+    private TransactionRequestDTO details;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        slots = new Semaphore(10_000);
+
+        details = new TransactionRequestDTO();
+        details.setAccountName("Tendai Moyo");
+        details.setAccountNumber("0123456789");
+        details.setBankBranchCode("CBZ-001");
+        details.setCurrency("USD");
+        details.setAmount(new BigDecimal("1250.75"));
+    }
+
+    @Benchmark
+    public AuditLog syncRow() {
+        AuditLog log = new AuditLog("Transaction", 42L, "CREATE", USER_ID,
+                AuditService.serializeDetails(objectMapper, details));
+        log.setTenantId(TENANT_ID);
+        return log;
+    }
+
+    @Benchmark
+    public AuditOutbox writeBehindRow() {
+        AuditOutbox entry = new AuditOutbox(TENANT_ID, "Transaction", 42L, "CREATE", USER_ID,
+                AuditService.serializeDetails(objectMapper, details));
+        slots.tryAcquire();
+        // The drainer frees the slot in the real pipeline
+        slots.release();
+        return entry;
+    }
+}
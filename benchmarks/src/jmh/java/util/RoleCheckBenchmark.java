@@ -0,0 +1,58 @@
+package util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: RoleCheckBenchmark
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@State(Scope.Benchmark)
+public class RoleCheckBenchmark {
+
+    private AccessDecisionTable table;
+    private Method anyOf;
+    private Method allOf;
+    private RoleSet grantedRoles;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        table = AccessDecisionTable.of(Annotated.class);
+        anyOf = Annotated.class.getDeclaredMethod("approve");
+        allOf = Annotated.class.getDeclaredMethod("administer");
+        Set<String> roles = Set.of("TRANSACTION_CREATOR", "TRANSACTION_APPROVER");
+        grantedRoles = new RoleSet("TRANSACTION_CREATOR,TRANSACTION_APPROVER", roles, table.roleMask(roles));
+    }
+
+    // What RoleBasedAccessControlFilter does per request: look up the method's rule and test the caller's mask
+    @Benchmark
+    public boolean anyOfRoles() {
+        return table.ruleFor(Annotated.class, anyOf).permits(grantedRoles);
+    }
+
+    @Benchmark
+    public boolean allOfRoles() {
+        return table.ruleFor(Annotated.class, allOf).permits(grantedRoles);
+    }
+
+    // Role sets as they appear on the resources
+    private static class Annotated {
+        @RequiresRole({"TRANSACTION_APPROVER", "ADMIN"})
+        void approve() {
+        }
+
+        @RequiresRole(value = {"TRANSACTION_APPROVER", "ADMIN"}, allOf = true)
+        void administer() {
+        }
+    }
+}
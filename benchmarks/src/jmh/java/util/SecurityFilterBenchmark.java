@@ -0,0 +1,86 @@
+package util;
+
+import api.AuditResource;
+import api.BankResource;
+import api.TransactionResource;
+import io.opentelemetry.api.OpenTelemetry;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.UriInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: util
+ * File: SecurityFilterBenchmark
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+@State(Scope.Benchmark)
+public class SecurityFilterBenchmark {
+
+    private SecurityFilter filter;
+    private ContainerRequestContext request;
+
+    @Setup
+    public void setUp() {
+        filter = new SecurityFilter();
+        filter.tracer = OpenTelemetry.noop().getTracer("benchmarks");
+        PrincipalResolver principalResolver = new PrincipalResolver();
+        principalResolver.accessDecisionTable = AccessDecisionTable.of(TransactionResource.class, BankResource.class, AuditResource.class);
+        principalResolver.principalCacheSize = 10_000;
+        principalResolver.roleCacheSize = 1_000;
+        principalResolver.init();
+        filter.principalResolver = principalResolver;
+        // Token auth off: the identity headers are what is being measured
+        filter.tokenVerifier = new TokenVerifier();
+        request = requestWithHeaders(Map.of(
+                "X-Tenant-ID", "tenant-a",
+                "X-User-ID", "user-1",
+                "X-User-Email", "user-1@example.com",
+                "X-User-Roles", "TRANSACTION_CREATOR, TRANSACTION_APPROVER, ADMIN"));
+    }
+
+    // A fresh SecurityContext per call, as each request gets its own; the same headers every time,
+    // so after the first call this is the repeat-caller path
+    @Benchmark
+    public SecurityContext parseHeaders() {
+        SecurityContext securityContext = new SecurityContext();
+        filter.securityContext = securityContext;
+        filter.filter(request);
+        return securityContext;
+    }
+
+    // Only the handful of methods the filter calls are answered; anything else is a bug in the benchmark
+    static ContainerRequestContext requestWithHeaders(Map<String, String> headers) {
+        UriInfo uriInfo = stub(UriInfo.class, Map.of("getPath", "api/v1/transactions"));
+        return (ContainerRequestContext) Proxy.newProxyInstance(
+                SecurityFilterBenchmark.class.getClassLoader(),
+                new Class<?>[]{ContainerRequestContext.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeaderString" -> headers.get((String) args[0]);
+                    case "getMethod" -> "POST";
+                    case "getUriInfo" -> uriInfo;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(
+                SecurityFilterBenchmark.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!answers.containsKey(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return answers.get(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,51 @@
+plugins {
+    java
+    application
+}
+
+val quarkusPlatformGroupId: String by project
+val quarkusPlatformArtifactId: String by project
+val quarkusPlatformVersion: String by project
+
+dependencies {
+    implementation(enforcedPlatform("${quarkusPlatformGroupId}:${quarkusPlatformArtifactId}:${quarkusPlatformVersion}"))
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+
+    // Real PostgreSQL binaries run as a child process, so no Docker or installed server is needed
+    implementation("io.zonky.test:embedded-postgres:2.0.7")
+    implementation(enforcedPlatform("io.zonky.test.postgres:embedded-postgres-binaries-bom:16.2.0"))
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+    options.compilerArgs.add("-parameters")
+}
+
+application {
+    mainClass.set("loadtest.LoadTest")
+}
+
+// ./gradlew :loadtest:loadTest [-Ploadtest.duration=PT5M -Ploadtest.mix=single-create=50,status-listing=50 ...]
+// Any -Ploadtest.* property overrides the defaults in loadtest.properties
+tasks.register<JavaExec>("loadTest") {
+    description = "Boots the transaction service on an embedded PostgreSQL and drives the configured load mix"
+    group = "verification"
+    dependsOn(":apps:transaction-service:quarkusBuild")
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("loadtest.LoadTest")
+
+    val serviceDir = project(":apps:transaction-service").layout.buildDirectory
+    systemProperty("loadtest.service-jar", serviceDir.file("transaction-service-1.0.0-SNAPSHOT-runner.jar").get().asFile.path)
+    systemProperty("loadtest.baseline-file", layout.projectDirectory.file("baseline.json").asFile.path)
+    systemProperty("loadtest.results-dir", layout.buildDirectory.dir("results").get().asFile.path)
+    project.properties
+            .filterKeys { it.startsWith("loadtest.") }
+            .forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
@@ -0,0 +1,140 @@
+package loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Project: pay-stream
+ * Module: loadtest
+ * File: ApiClient
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final String[] CURRENCIES = {"USD", "ZWG", "ZAR", "EUR"};
+
+    // Approvals must come from someone other than the creator (separation of duties)
+    private static final User ADMIN = new User("lt-admin", "ADMIN");
+    private static final User CREATOR = new User("lt-creator", "TRANSACTION_CREATOR");
+    private static final User APPROVER = new User("lt-approver", "TRANSACTION_APPROVER");
+
+    private record User(String id, String roles) {}
+
+    /**
+     * Status and body of one call; {@code location} is the Location header, if any.
+     */
+    public record Result(int status, String location) {
+        public boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ApiClient(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static String branchCode(int tenant) {
+        return "LT-" + tenant;
+    }
+
+    public static String tenantId(int tenant) {
+        return "lt-tenant-" + tenant;
+    }
+
+    public Result createBank(int tenant) throws IOException, InterruptedException {
+        return send(tenant, ADMIN, "POST", "/api/v1/banks", Map.of(
+                "name", "Load Test Bank " + tenant,
+                "branchCode", branchCode(tenant),
+                "address", "Harare",
+                "active", true));
+    }
+
+    public Result createTransaction(int tenant) throws IOException, InterruptedException {
+        return send(tenant, CREATOR, "POST", "/api/v1/transactions", transaction(tenant));
+    }
+
+    public Result createBulk(int tenant, int size) throws IOException, InterruptedException {
+        List<Map<String, Object>> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(transaction(tenant));
+        }
+        return send(tenant, CREATOR, "POST", "/api/v1/transactions/bulk", Map.of("transactions", transactions));
+    }
+
+    public Result approveBatch(int tenant, String batchId) throws IOException, InterruptedException {
+        return send(tenant, APPROVER, "PUT", "/api/v1/transactions/batch/" + batchId + "/approve",
+                Map.of("notes", "load test"));
+    }
+
+    public Result listPending(int tenant, int limit) throws IOException, InterruptedException {
+        return send(tenant, APPROVER, "GET", "/api/v1/transactions?status=PENDING_APPROVAL&limit=" + limit, null);
+    }
+
+    // The batch id is the last segment of the bulk create's Location header
+    public static String batchId(Result bulkCreate) {
+        String location = bulkCreate.location();
+        return location == null ? null : location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    private Map<String, Object> transaction(int tenant) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Map.of(
+                "accountName", "Load Test Account",
+                "accountNumber", String.valueOf(1_000_000_000L + random.nextLong(9_000_000_000L)),
+                "bankBranchCode", branchCode(tenant),
+                "currency", CURRENCIES[random.nextInt(CURRENCIES.length)],
+                "amount", random.nextInt(1, 100_000) + ".00");
+    }
+
+    // Bodies are drained but not parsed; only the status and Location header matter here
+    private Result send(int tenant, User user, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("X-Tenant-ID", tenantId(tenant))
+                .header("X-User-ID", user.id())
+                .header("X-User-Email", user.id() + "@example.com")
+                .header("X-User-Roles", user.roles());
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+        }
+        HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        return new Result(response.statusCode(), response.headers().firstValue("Location").orElse(null));
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
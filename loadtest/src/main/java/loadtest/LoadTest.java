@@ -0,0 +1,175 @@
+package loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Project: pay-stream
+ * Module: loadtest
+ * File: LoadTest
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public final class LoadTest {
+
+    // Latencies are recorded in microseconds, up to a minute, at 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private record PendingBatch(int tenant, String batchId) {}
+
+    private final LoadTestConfig config;
+    private final ApiClient client;
+    private final Operation[] schedule;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    // Batches created by bulk-create that batch-approve can pick up
+    private final Queue<PendingBatch> pendingBatches = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = true;
+
+    private LoadTest(LoadTestConfig config, ApiClient client) {
+        this.config = config;
+        this.client = client;
+        this.schedule = weightedSchedule(config.mix());
+        for (Operation operation : config.mix().keySet()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        LoadTestReport report;
+        try (ServiceUnderTest service = ServiceUnderTest.start(config)) {
+            LoadTest loadTest = new LoadTest(config, new ApiClient(service.baseUri()));
+            loadTest.seed();
+            report = loadTest.run();
+        }
+
+        System.out.println("Mode: " + config.mode());
+        report.print(System.out);
+        report.write(config.modeResultsDir());
+
+        if (config.updateBaseline()) {
+            report.writeBaseline(config.modeBaselineFile());
+            System.out.println("Baseline updated: " + config.modeBaselineFile());
+            return;
+        }
+        if (!report.passes(config.modeBaselineFile(), config.maxThroughputDrop(), config.maxErrorRate(), System.out)) {
+            System.exit(1);
+        }
+    }
+
+    // One active bank per tenant, so every create has something to resolve against
+    private void seed() throws IOException, InterruptedException {
+        for (int tenant = 0; tenant < config.tenants(); tenant++) {
+            ApiClient.Result result = client.createBank(tenant);
+            if (!result.ok()) {
+                throw new IllegalStateException("Seeding bank for tenant " + tenant + " failed with " + result.status());
+            }
+        }
+    }
+
+    private LoadTestReport run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(config.workers());
+        for (int i = 0; i < config.workers(); i++) {
+            workers.execute(this::workLoop);
+        }
+
+        // Warm-up samples are thrown away, along with the errors counted during warm-up
+        Thread.sleep(config.warmup().toMillis());
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        errors.values().forEach(count -> count.set(0));
+
+        long measureStart = System.nanoTime();
+        Thread.sleep(config.duration().toMillis());
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        errors.forEach((operation, count) -> errorCounts.put(operation, count.get()));
+        double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+
+        return new LoadTestReport(histograms, errorCounts, measuredSeconds);
+    }
+
+    // Closed loop: each worker issues its next request as soon as the previous one returns
+    private void workLoop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            int tenant = random.nextInt(config.tenants());
+            try {
+                execute(operation, tenant);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                errors.get(operation).incrementAndGet();
+            }
+        }
+    }
+
+    private void execute(Operation operation, int tenant) throws IOException, InterruptedException {
+        PendingBatch batch = null;
+        if (operation == Operation.BATCH_APPROVE) {
+            batch = pendingBatches.poll();
+            if (batch == null) {
+                // Nothing queued by bulk-create yet; set one up outside the measurement
+                ApiClient.Result created = client.createBulk(tenant, config.bulkSize());
+                if (!created.ok()) {
+                    errors.get(operation).incrementAndGet();
+                    return;
+                }
+                batch = new PendingBatch(tenant, ApiClient.batchId(created));
+            }
+        }
+
+        long start = System.nanoTime();
+        ApiClient.Result result = switch (operation) {
+            case SINGLE_CREATE -> client.createTransaction(tenant);
+            case BULK_CREATE -> client.createBulk(tenant, config.bulkSize());
+            case BATCH_APPROVE -> client.approveBatch(batch.tenant(), batch.batchId());
+            case STATUS_LISTING -> client.listPending(tenant, config.listLimit());
+        };
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        if (!result.ok()) {
+            errors.get(operation).incrementAndGet();
+            return;
+        }
+        recorders.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (operation == Operation.BULK_CREATE && config.mix().containsKey(Operation.BATCH_APPROVE)) {
+            pendingBatches.offer(new PendingBatch(tenant, ApiClient.batchId(result)));
+        }
+    }
+
+    // Each operation appears as many times as its weight, so a uniform pick honours the mix
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Operation[] schedule = new Operation[total];
+        int i = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int n = 0; n < entry.getValue(); n++) {
+                schedule[i++] = entry.getKey();
+            }
+        }
+        return schedule;
+    }
+}
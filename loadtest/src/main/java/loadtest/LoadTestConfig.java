@@ -0,0 +1,127 @@
+package loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Project: pay-stream
+ * Module: loadtest
+ * File: LoadTestConfig
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public record LoadTestConfig(
+        Path serviceJar,
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        int port,
+        boolean virtualThreads,
+        int tenants,
+        int workers,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int bulkSize,
+        int listLimit,
+        Path baselineFile,
+        Path resultsDir,
+        double maxThroughputDrop,
+        double maxErrorRate,
+        boolean updateBaseline) {
+
+    private static final String PREFIX = "loadtest.";
+
+    /**
+     * Defaults from loadtest.properties, overridden by any loadtest.* system property.
+     */
+    public static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            properties.load(defaults);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read loadtest.properties", e);
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith(PREFIX)) {
+                properties.setProperty(key.toString(), value.toString());
+            }
+        });
+
+        return new LoadTestConfig(
+                Path.of(required(properties, "service-jar")),
+                properties.getProperty(PREFIX + "db-url", ""),
+                required(properties, "db-username"),
+                required(properties, "db-password"),
+                Integer.parseInt(required(properties, "port")),
+                Boolean.parseBoolean(required(properties, "virtual-threads")),
+                Integer.parseInt(required(properties, "tenants")),
+                Integer.parseInt(required(properties, "workers")),
+                Duration.parse(required(properties, "warmup")),
+                Duration.parse(required(properties, "duration")),
+                parseMix(required(properties, "mix")),
+                Integer.parseInt(required(properties, "bulk-size")),
+                Integer.parseInt(required(properties, "list-limit")),
+                Path.of(required(properties, "baseline-file")),
+                Path.of(required(properties, "results-dir")),
+                Double.parseDouble(required(properties, "max-throughput-drop")),
+                Double.parseDouble(required(properties, "max-error-rate")),
+                Boolean.parseBoolean(required(properties, "update-baseline")));
+    }
+
+    /**
+     * Names the execution mode under test; results and baselines are kept per mode so the two can
+     * be compared side by side.
+     */
+    public String mode() {
+        return virtualThreads ? "virtual-threads" : "worker-pool";
+    }
+
+    public Path modeResultsDir() {
+        return resultsDir.resolve(mode());
+    }
+
+    // baseline.json -> baseline-virtual-threads.json
+    public Path modeBaselineFile() {
+        String name = baselineFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String modeName = dot < 0 ? name + "-" + mode() : name.substring(0, dot) + "-" + mode() + name.substring(dot);
+        return baselineFile.resolveSibling(modeName);
+    }
+
+    public boolean embeddedDatabase() {
+        return dbUrl == null || dbUrl.isBlank();
+    }
+
+    private static String required(Properties properties, String name) {
+        String value = properties.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing load test setting " + PREFIX + name);
+        }
+        return value.trim();
+    }
+
+    // "single-create=50,status-listing=30"; operations left out are not run
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + entry + "', expected operation=weight");
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The load mix needs at least one operation with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,134 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Project: pay-stream
+ * Module: loadtest
+ * File: LoadTestReport
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public final class LoadTestReport {
+
+    private static final String TOTAL = "total";
+    // Histograms hold microseconds; hgrm output and the summary are in milliseconds
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, Long> errors = new LinkedHashMap<>();
+    private final double measuredSeconds;
+
+    LoadTestReport(Map<Operation, Histogram> byOperation, Map<Operation, Long> errorsByOperation, double measuredSeconds) {
+        this.measuredSeconds = measuredSeconds;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Histogram> entry : byOperation.entrySet()) {
+            histograms.put(entry.getKey().key(), entry.getValue());
+            errors.put(entry.getKey().key(), errorsByOperation.getOrDefault(entry.getKey(), 0L));
+            total.add(entry.getValue());
+            totalErrors += errorsByOperation.getOrDefault(entry.getKey(), 0L);
+        }
+        histograms.put(TOTAL, total);
+        errors.put(TOTAL, totalErrors);
+    }
+
+    public double throughput(String operation) {
+        return histograms.get(operation).getTotalCount() / measuredSeconds;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n%-16s %10s %10s %10s %10s %10s %10s %8s%n",
+                "operation", "count", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        histograms.forEach((operation, histogram) -> out.printf("%-16s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                operation,
+                histogram.getTotalCount(),
+                throughput(operation),
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                errors.get(operation)));
+    }
+
+    /**
+     * One HdrHistogram percentile distribution (.hgrm) per operation, loadable in the HdrHistogram
+     * plotter, plus summary.json with the numbers printed above.
+     */
+    public void write(Path resultsDir) throws IOException {
+        Files.createDirectories(resultsDir);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("measuredSeconds", measuredSeconds);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(resultsDir.resolve(entry.getKey() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getTotalCount());
+            stats.put("errors", errors.get(entry.getKey()));
+            stats.put("throughput", throughput(entry.getKey()));
+            stats.put("p50Ms", histogram.getValueAtPercentile(50) / MICROS_PER_MILLI);
+            stats.put("p99Ms", histogram.getValueAtPercentile(99) / MICROS_PER_MILLI);
+            stats.put("p999Ms", histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+            stats.put("maxMs", histogram.getMaxValue() / MICROS_PER_MILLI);
+            operations.put(entry.getKey(), stats);
+        }
+        summary.put("operations", operations);
+        objectMapper.writeValue(resultsDir.resolve("summary.json").toFile(), summary);
+    }
+
+    public void writeBaseline(Path baselineFile) throws IOException {
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        histograms.keySet().forEach(operation -> throughput.put(operation, throughput(operation)));
+        objectMapper.writeValue(baselineFile.toFile(), Map.of("throughput", throughput));
+    }
+
+    /**
+     * Fails on too many errors, or when total or any operation's throughput is more than
+     * {@code maxDrop} below the baseline. Operations missing from the baseline are not compared.
+     */
+    public boolean passes(Path baselineFile, double maxDrop, double maxErrorRate, PrintStream out) throws IOException {
+        boolean passed = true;
+
+        long requests = histograms.get(TOTAL).getTotalCount() + errors.get(TOTAL);
+        double errorRate = requests == 0 ? 1.0 : (double) errors.get(TOTAL) / requests;
+        if (errorRate > maxErrorRate) {
+            out.printf("FAIL error rate %.2f%% exceeds %.2f%%%n", errorRate * 100, maxErrorRate * 100);
+            passed = false;
+        }
+
+        if (!Files.exists(baselineFile)) {
+            out.println("No baseline at " + baselineFile + "; run with -Ploadtest.update-baseline=true to record one");
+            return passed;
+        }
+        JsonNode baseline = objectMapper.readTree(baselineFile.toFile()).path("throughput");
+        for (String operation : histograms.keySet()) {
+            if (!baseline.has(operation)) {
+                continue;
+            }
+            double expected = baseline.get(operation).asDouble();
+            double actual = throughput(operation);
+            double change = expected == 0 ? 0 : (actual - expected) / expected;
+            boolean regressed = change < -maxDrop;
+            out.printf("%s %-16s %10.1f ops/s vs baseline %10.1f (%+.1f%%)%n",
+                    regressed ? "FAIL" : "ok  ", operation, actual, expected, change * 100);
+            passed &= !regressed;
+        }
+        return passed;
+    }
+}
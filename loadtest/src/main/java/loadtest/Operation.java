@@ -0,0 +1,36 @@
+package loadtest;
+
+/**
+ * Project: pay-stream
+ * Module: loadtest
+ * File: Operation
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public enum Operation {
+    SINGLE_CREATE("single-create"),
+    BULK_CREATE("bulk-create"),
+    BATCH_APPROVE("batch-approve"),
+    STATUS_LISTING("status-listing");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,125 @@
+package loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project: pay-stream
+ * Module: loadtest
+ * File: ServiceUnderTest
+ * <p>
+ * Created by: justice.m on 18/10/2026
+ * <p>
+ * © 2025 justice.m. All rights reserved
+ **/
+public final class ServiceUnderTest implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final EmbeddedPostgres database;
+    private final Process service;
+    private final URI baseUri;
+
+    private ServiceUnderTest(EmbeddedPostgres database, Process service, URI baseUri) {
+        this.database = database;
+        this.service = service;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Starts PostgreSQL (unless an external one is configured) and the packaged service as a
+     * separate JVM, the way it runs in production, then waits for /health. Flyway creates the
+     * schema on startup, so every run starts from an empty database.
+     */
+    public static ServiceUnderTest start(LoadTestConfig config) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(config.serviceJar())) {
+            throw new IllegalStateException("Service jar not found: " + config.serviceJar()
+                    + " (run ./gradlew :apps:transaction-service:quarkusBuild)");
+        }
+
+        EmbeddedPostgres database = null;
+        String jdbcUrl = config.dbUrl();
+        if (config.embeddedDatabase()) {
+            database = EmbeddedPostgres.builder().start();
+            jdbcUrl = database.getJdbcUrl(config.dbUsername(), "postgres");
+        }
+
+        Files.createDirectories(config.modeResultsDir());
+        Path serviceLog = config.modeResultsDir().resolve("service.log");
+        // Pinned virtual threads (a carrier blocked inside synchronized) print a short stack to service.log
+        ProcessBuilder builder = new ProcessBuilder(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Djdk.tracePinnedThreads=short",
+                "-jar", config.serviceJar().toString()));
+        Map<String, String> environment = builder.environment();
+        environment.put("PORT", String.valueOf(config.port()));
+        environment.put("QUARKUS_DATASOURCE_JDBC_URL", jdbcUrl);
+        environment.put("QUARKUS_DATASOURCE_REACTIVE_URL", jdbcUrl.substring("jdbc:".length()));
+        environment.put("QUARKUS_DATASOURCE_USERNAME", config.dbUsername());
+        environment.put("QUARKUS_DATASOURCE_PASSWORD", config.dbPassword());
+        // Off, @RunOnVirtualThread endpoints fall back to the worker pool
+        environment.put("QUARKUS_VIRTUAL_THREADS_ENABLED", String.valueOf(config.virtualThreads()));
+        // No collector here, and per-statement SQL logging would dominate the numbers
+        environment.put("QUARKUS_OTEL_SDK_DISABLED", "true");
+        environment.put("QUARKUS_HIBERNATE_ORM_LOG_SQL", "false");
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(serviceLog.toFile());
+
+        Process service = builder.start();
+        ServiceUnderTest started = new ServiceUnderTest(database, service,
+                URI.create("http://localhost:" + config.port()));
+        try {
+            started.awaitHealthy(serviceLog);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            started.close();
+            throw e;
+        }
+        return started;
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    private void awaitHealthy(Path serviceLog) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/health")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!service.isAlive()) {
+                throw new IllegalStateException("Service exited with " + service.exitValue() + ", see " + serviceLog);
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Keep polling until the deadline
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Service not healthy after " + STARTUP_TIMEOUT + ", see " + serviceLog);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        service.destroy();
+        if (!service.waitFor(30, TimeUnit.SECONDS)) {
+            service.destroyForcibly();
+        }
+        if (database != null) {
+            database.close();
+        }
+    }
+}
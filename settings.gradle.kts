@@ -18,6 +18,12 @@ include(":apps:transaction-service")
 //include(":apps:processing-service")
 
 
+// JMH benchmarks for the services' hot paths
+include(":benchmarks")
+
+// End-to-end load test against a locally booted service
+include(":loadtest")
+
 // Shared libraries/modules
 include(":shared:common")
 include(":shared:models")